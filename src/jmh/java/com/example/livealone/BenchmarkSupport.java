@@ -0,0 +1,47 @@
+package com.example.livealone;
+
+import com.example.livealone.global.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 벤치마크용 객체 생성 도우미. 스프링 컨텍스트 없이 application.yaml 과 같은 설정으로 만듭니다.
+ */
+public final class BenchmarkSupport {
+
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("livealone-benchmark-secret-key-0123456789".getBytes());
+
+    private BenchmarkSupport() {
+    }
+
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+    }
+
+    public static JwtService jwtService(long cacheMaximumSize) {
+        JwtService jwtService = new JwtService();
+        setField(jwtService, "SECRET_KEY", SECRET_KEY);
+        setField(jwtService, "EXPIRE_TIME", 3_600_000L);
+        setField(jwtService, "cacheMaximumSize", cacheMaximumSize);
+        jwtService.init();
+
+        return jwtService;
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + "." + name);
+        }
+
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
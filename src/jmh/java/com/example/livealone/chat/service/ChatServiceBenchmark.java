@@ -0,0 +1,67 @@
+package com.example.livealone.chat.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.example.livealone.BenchmarkSupport;
+import com.example.livealone.chat.repository.ChatErrorLogRepository;
+import com.example.livealone.chat.repository.ChatSessionLogRepository;
+import com.example.livealone.global.dto.SocketMessageDto;
+import com.example.livealone.global.entity.SocketMessageType;
+import com.example.livealone.global.security.JwtService;
+import com.example.livealone.user.entity.User;
+import com.example.livealone.user.entity.UserRole;
+import com.example.livealone.user.service.AuthService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 채팅 전송/인증 응답 생성 비용. 저장소와 외부 연동은 mock 으로 대체합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatServiceBenchmark {
+
+    private ChatService chatService;
+    private SocketMessageDto chatMessage;
+    private SocketMessageDto authRequest;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        JwtService jwtService = BenchmarkSupport.jwtService(10000);
+
+        chatService = new ChatService(
+                mock(KafkaTemplate.class),
+                mock(ChatErrorLogRepository.class),
+                mock(ChatSessionLogRepository.class),
+                mock(ChatMessageWriter.class),
+                mock(ChatInitCache.class),
+                BenchmarkSupport.objectMapper(),
+                jwtService,
+                mock(AuthService.class)
+        );
+
+        User user = User.fromClaims(1L, "username", "nickname", "user@livealone.com", UserRole.USER);
+        chatMessage = new SocketMessageDto(SocketMessageType.CHAT_MESSAGE, "nickname", "안녕하세요 채팅 메시지 입니다.");
+        authRequest = new SocketMessageDto(SocketMessageType.REQUEST_AUTH, "nickname", jwtService.generateToken(user));
+    }
+
+    @Benchmark
+    public String createKafkaMessage() throws JsonProcessingException {
+        return chatService.createKafkaMessage(chatMessage);
+    }
+
+    @Benchmark
+    public String createSessionReply() throws JsonProcessingException {
+        return chatService.createSessionReply(authRequest);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.livealone.global.aop;
+
+import com.example.livealone.user.entity.User;
+import com.example.livealone.user.entity.UserRole;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DistributedLock 키 계산 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomSpringELParserBenchmark {
+
+    private static final String[] PRODUCT_PARAMETER = {"productId"};
+    private static final String[] USER_PARAMETER = {"requestDto", "user"};
+
+    private Object[] productArgs;
+    private Object[] userArgs;
+
+    @Setup
+    public void setUp() {
+        productArgs = new Object[] {1L};
+        userArgs = new Object[] {null, User.fromClaims(1L, "username", "nickname", "user@livealone.com", UserRole.USER)};
+    }
+
+    @Benchmark
+    public Object variableKey() {
+        return CustomSpringELParser.getDynamicValue(PRODUCT_PARAMETER, productArgs, "'checkStock-' + #productId");
+    }
+
+    @Benchmark
+    public Object methodCallKey() {
+        return CustomSpringELParser.getDynamicValue(USER_PARAMETER, userArgs, "'createReservation-' + #user.getId()");
+    }
+}
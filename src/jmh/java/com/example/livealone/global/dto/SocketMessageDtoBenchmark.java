@@ -0,0 +1,54 @@
+package com.example.livealone.global.dto;
+
+import com.example.livealone.BenchmarkSupport;
+import com.example.livealone.global.entity.SocketMessageType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 소켓 메시지 JSON 직렬화/역직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SocketMessageDtoBenchmark {
+
+    private ObjectMapper objectMapper;
+    private SocketMessageDto socketMessageDto;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = BenchmarkSupport.objectMapper();
+        socketMessageDto = new SocketMessageDto(SocketMessageType.CHAT_MESSAGE, "nickname", "안녕하세요 채팅 메시지 입니다.");
+        json = objectMapper.writeValueAsString(socketMessageDto);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(socketMessageDto);
+    }
+
+    @Benchmark
+    public SocketMessageDto deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(json, SocketMessageDto.class);
+    }
+
+    @Benchmark
+    public SocketMessageDto roundTrip() throws JsonProcessingException {
+        return objectMapper.readValue(objectMapper.writeValueAsString(socketMessageDto), SocketMessageDto.class);
+    }
+
+    @Benchmark
+    public EncodedSocketMessage encode() throws JsonProcessingException {
+        return EncodedSocketMessage.encode(objectMapper, socketMessageDto);
+    }
+}
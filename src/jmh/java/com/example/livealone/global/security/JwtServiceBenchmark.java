@@ -0,0 +1,56 @@
+package com.example.livealone.global.security;
+
+import com.example.livealone.BenchmarkSupport;
+import com.example.livealone.user.entity.User;
+import com.example.livealone.user.entity.UserRole;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 토큰 발급과 검증 비용. cacheMaximumSize=0 이면 매번 서명 검증까지 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final int TOKEN_COUNT = 1024;
+
+    @Param({"0", "10000"})
+    private long cacheMaximumSize;
+
+    private JwtService jwtService;
+    private User user;
+    private String[] tokens;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkSupport.jwtService(cacheMaximumSize);
+        user = User.fromClaims(1L, "username", "nickname", "user@livealone.com", UserRole.USER);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            User tokenUser = User.fromClaims((long) i, "username", "nickname", "user" + i + "@livealone.com", UserRole.USER);
+            tokens[i] = jwtService.generateToken(tokenUser).substring("Bearer ".length());
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public JwtVerification verify() {
+        index = (index + 1) % TOKEN_COUNT;
+        return jwtService.verify(tokens[index]);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.livealone.order.repository;
+
+import com.example.livealone.global.entity.IdSequence;
+import com.example.livealone.order.entity.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 주문 rows 개를 한 트랜잭션에서 EntityManager.persist/flush 하는 비용
+ *
+ * identity : IDENTITY 생성 전략. persist 마다 insert 가 바로 실행되어 Hibernate JDBC batch 가 꺼집니다.
+ * pooled   : Order 와 같은 테이블 generator(pooled, ALLOCATION_SIZE)와 application.yaml 의 batch 설정.
+ *
+ * 두 엔티티 모두 Order 의 컬럼을 그대로 가지고, 연관은 FK 컬럼 값으로만 둡니다.
+ * 기본은 H2(MySQL 모드) 메모리 DB 이고, 네트워크 왕복 차이는 MySQL 에서 봐야 하므로 JMH_JDBC_URL / JMH_JDBC_USER /
+ * JMH_JDBC_PASSWORD 로 지정합니다. 예) compose 의 mysql
+ *   JMH_JDBC_URL=jdbc:mysql://localhost:3307/live_alone?rewriteBatchedStatements=true JMH_JDBC_USER=admin
+ *   JMH_JDBC_PASSWORD=secret ./gradlew jmh -PjmhIncludes=OrderInsertBenchmark
+ * 벤치마크 전용 bench_* 테이블만 만들고 지웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"500"})
+    private int rows;
+
+    private SessionFactory identityFactory;
+    private SessionFactory pooledFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        identityFactory = sessionFactory(IdentityOrder.class);
+        pooledFactory = sessionFactory(PooledOrder.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        identityFactory.close();
+        pooledFactory.close();
+    }
+
+    @Benchmark
+    public long identity() {
+        return persistAll(identityFactory, IdentityOrder::new);
+    }
+
+    @Benchmark
+    public long pooled() {
+        return persistAll(pooledFactory, PooledOrder::new);
+    }
+
+    private long persistAll(SessionFactory sessionFactory, Supplier<BenchOrder> factory) {
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            BenchOrder last = null;
+            for (int i = 0; i < rows; i++) {
+                last = factory.get().init(i);
+                entityManager.persist(last);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.getTransaction().commit();
+            return last == null ? 0 : last.getId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static SessionFactory sessionFactory(Class<?> entityClass) {
+        return new Configuration()
+                .addAnnotatedClass(entityClass)
+                .setProperty("hibernate.connection.url",
+                        env("JMH_JDBC_URL", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1"))
+                .setProperty("hibernate.connection.username", env("JMH_JDBC_USER", "sa"))
+                .setProperty("hibernate.connection.password", env("JMH_JDBC_PASSWORD", ""))
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                // application.yaml 과 같은 batch 설정
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchOrder {
+
+        @Column(nullable = false)
+        private int quantity;
+
+        @Column(nullable = false)
+        @Enumerated(EnumType.STRING)
+        private OrderStatus orderStatus;
+
+        @Column(name = "user_id", nullable = false)
+        private Long userId;
+
+        @Column(name = "product_id", nullable = false)
+        private Long productId;
+
+        @Column(name = "broadcast_id", nullable = false)
+        private Long broadcastId;
+
+        public abstract Long getId();
+
+        BenchOrder init(int i) {
+            quantity = 1;
+            orderStatus = OrderStatus.READY;
+            userId = (long) (i % 1000);
+            productId = (long) (i % 10);
+            broadcastId = 1L;
+            return this;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_identity_orders")
+    public static class IdentityOrder extends BenchOrder {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_orders")
+    public static class PooledOrder extends BenchOrder {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_orders_id")
+        @TableGenerator(name = "bench_orders_id", table = "bench_id_sequences", pkColumnName = IdSequence.SEGMENT_COLUMN,
+                valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "orders",
+                allocationSize = IdSequence.ALLOCATION_SIZE)
+        private Long id;
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.livealone.reservation.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.livealone.broadcast.dto.ReservationStateResponseDto;
+import com.example.livealone.reservation.repository.ReservationRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.support.StaticMessageSource;
+
+/**
+ * 예약 가능 시간(하루 72칸) 계산 비용. 예약된 시간 목록은 메모리에서 반환합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationServiceBenchmark {
+
+    private ReservationService reservationService;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        date = LocalDate.now().plusDays(1);
+
+        List<LocalDateTime> reservedTimes = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour += 2) {
+            reservedTimes.add(LocalDateTime.of(date, LocalTime.of(hour, 20)));
+        }
+
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findByAirTimeBetween(any(), any())).thenReturn(reservedTimes);
+
+        reservationService = new ReservationService(reservationRepository, new StaticMessageSource());
+    }
+
+    @Benchmark
+    public List<ReservationStateResponseDto> getReservations() {
+        return reservationService.getReservations(date);
+    }
+}
@@ -8,7 +8,9 @@ import com.example.livealone.admin.dto.AdminRoleResponseDto;
 import com.example.livealone.admin.dto.AdminUserListResponseDto;
 import com.example.livealone.admin.service.AdminService;
 import com.example.livealone.global.dto.CommonResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.global.security.UserDetailsImpl;
+import com.example.livealone.user.dto.TokenResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -28,16 +30,16 @@ public class AdminController {
   private final AdminService adminService;
 
   @PutMapping("register/admin")
-  public ResponseEntity<CommonResponseDto<Void>> registerAdmin(@RequestBody AdminRequestDto requestDto, @AuthenticationPrincipal
+  public ResponseEntity<CommonResponseDto<TokenResponseDto>> registerAdmin(@RequestBody AdminRequestDto requestDto, @AuthenticationPrincipal
       UserDetailsImpl userDetails) {
 
-    adminService.registerAdmin(userDetails.getUser(), requestDto);
+    TokenResponseDto tokenResponseDto = adminService.registerAdmin(userDetails.getUser(), requestDto);
 
     return ResponseEntity.status(HttpStatus.OK).body(
         new CommonResponseDto<>(
             HttpStatus.OK.value(),
             "관리자로 등록되었습니다.",
-            null)
+            tokenResponseDto)
     );
   }
 
@@ -64,6 +66,18 @@ public class AdminController {
     );
   }
 
+  @GetMapping("/admin/broadcasts/cursor")
+  public ResponseEntity<CommonResponseDto<CursorPageDto<AdminBroadcastListResponseDto>>> getBroadcastsByCursor(@RequestParam(required = false) Long cursor) {
+    CursorPageDto<AdminBroadcastListResponseDto> adminBroadcastListResponseDtoPage = adminService.getBroadcastsByCursor(cursor);
+
+    return ResponseEntity.status(HttpStatus.OK).body(
+        new CommonResponseDto<>(
+            HttpStatus.OK.value(),
+            "방송 내역을 조회하였습니다.",
+            adminBroadcastListResponseDtoPage)
+    );
+  }
+
   @GetMapping("/admin/users")
   public ResponseEntity<CommonResponseDto<Page<AdminUserListResponseDto>>> getUsers(@RequestParam(defaultValue = "1") int page) {
     Page<AdminUserListResponseDto> adminUserListResponseDtoPage = adminService.getUsers(page);
@@ -76,6 +90,18 @@ public class AdminController {
     );
   }
 
+  @GetMapping("/admin/users/cursor")
+  public ResponseEntity<CommonResponseDto<CursorPageDto<AdminUserListResponseDto>>> getUsersByCursor(@RequestParam(required = false) Long cursor) {
+    CursorPageDto<AdminUserListResponseDto> adminUserListResponseDtoPage = adminService.getUsersByCursor(cursor);
+
+    return ResponseEntity.status(HttpStatus.OK).body(
+        new CommonResponseDto<>(
+            HttpStatus.OK.value(),
+            "유저 정보를 조회하였습니다",
+            adminUserListResponseDtoPage)
+    );
+  }
+
   @GetMapping("/admin/broadcast/{broadcastId}")
   public ResponseEntity<CommonResponseDto<AdminBroadcastDetailResponseDto>> getBroadcastDetails(@PathVariable Long broadcastId) {
     AdminBroadcastDetailResponseDto adminBroadcastDetailResponseDto = adminService.getBroadcastDetails(broadcastId);
@@ -99,4 +125,16 @@ public class AdminController {
             adminConsumerResponseDtos)
     );
   }
+
+  @GetMapping("/admin/broadcast/{broadcastId}/consumer/cursor")
+  public ResponseEntity<CommonResponseDto<CursorPageDto<AdminConsumerResponseDto>>> getConsumersByCursor(@PathVariable Long broadcastId, @RequestParam(required = false) Long cursor) {
+    CursorPageDto<AdminConsumerResponseDto> adminConsumerResponseDtos = adminService.getConsumersByCursor(broadcastId, cursor);
+
+    return ResponseEntity.status(HttpStatus.OK).body(
+        new CommonResponseDto<>(
+            HttpStatus.OK.value(),
+            "구매자 목록을 조회하였습니다.",
+            adminConsumerResponseDtos)
+    );
+  }
 }
\ No newline at end of file
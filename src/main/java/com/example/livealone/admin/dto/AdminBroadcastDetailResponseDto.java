@@ -17,4 +17,6 @@ public class AdminBroadcastDetailResponseDto {
   private String productIntroduction;
   private Long totalOrderCount;
   private Long totalSalePrice;
+  private Long orderCount;
+  private Long paidAmount;
 }
@@ -7,6 +7,7 @@ import lombok.Getter;
 @Getter
 @Builder
 public class AdminConsumerResponseDto {
+  private Long orderId;
   private Long userId;
   private String username;
   private int productQuantity;
@@ -4,6 +4,7 @@ import com.example.livealone.admin.dto.AdminBroadcastDetailResponseDto;
 import com.example.livealone.admin.dto.AdminBroadcastListResponseDto;
 import com.example.livealone.admin.dto.AdminConsumerResponseDto;
 import com.example.livealone.admin.dto.AdminRoleResponseDto;
+import com.example.livealone.broadcast.dto.BroadcastSalesDto;
 import com.example.livealone.broadcast.entity.Broadcast;
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.product.entity.Product;
@@ -16,7 +17,7 @@ public class AdminMapper {
         .build();
   }
 
-  public static AdminBroadcastDetailResponseDto toAdminBroadcastDetailResponseDto(Broadcast broadcast, Product product, Long totalOrderCount, Long totalSalePrice) {
+  public static AdminBroadcastDetailResponseDto toAdminBroadcastDetailResponseDto(Broadcast broadcast, Product product, BroadcastSalesDto sales) {
     return AdminBroadcastDetailResponseDto.builder()
         .broadcastTitle(broadcast.getTitle())
         .broadcastStreamer(broadcast.getStreamer().getUsername())
@@ -26,13 +27,16 @@ public class AdminMapper {
         .productPrice(product.getPrice())
         .productQuantity(product.getQuantity())
         .productIntroduction(product.getIntroduction())
-        .totalOrderCount(totalOrderCount)
-        .totalSalePrice(totalSalePrice)
+        .totalOrderCount(sales.getTotalQuantity())
+        .totalSalePrice(sales.getTotalQuantity() * product.getPrice())
+        .orderCount(sales.getOrderCount())
+        .paidAmount(sales.getRevenue())
         .build();
   }
 
   public static AdminConsumerResponseDto toAdminConsumerResponseDto(Order order) {
     return AdminConsumerResponseDto.builder()
+        .orderId(order.getId())
         .userId(order.getUser().getId())
         .username(order.getUser().getUsername())
         .productQuantity(order.getQuantity())
@@ -7,11 +7,16 @@ import com.example.livealone.admin.dto.AdminRequestDto;
 import com.example.livealone.admin.dto.AdminRoleResponseDto;
 import com.example.livealone.admin.dto.AdminUserListResponseDto;
 import com.example.livealone.admin.mapper.AdminMapper;
+import com.example.livealone.broadcast.dto.BroadcastSalesDto;
 import com.example.livealone.broadcast.entity.Broadcast;
+import com.example.livealone.broadcast.service.BroadcastSalesService;
 import com.example.livealone.broadcast.service.BroadcastService;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.global.exception.CustomException;
 import com.example.livealone.order.service.OrderService;
+import com.example.livealone.user.dto.TokenResponseDto;
 import com.example.livealone.user.entity.User;
+import com.example.livealone.user.service.AuthService;
 import com.example.livealone.user.service.UserService;
 import java.util.Locale;
 import java.util.Objects;
@@ -33,13 +38,19 @@ public class AdminService {
   private String adminToken;
 
   private final UserService userService;
+  private final AuthService authService;
   private final BroadcastService broadcastService;
+  private final BroadcastSalesService broadcastSalesService;
   private final OrderService orderService;
 
   private final MessageSource messageSource;
 
+  /**
+   * 관리자로 등록하고 ADMIN 권한이 담긴 토큰을 새로 발급합니다.
+   * 기존 토큰의 role claim 은 USER 로 남아 있으므로 클라이언트는 반환된 토큰으로 교체해야 합니다.
+   */
   @Transactional
-  public void registerAdmin(User user, AdminRequestDto requestDto) {
+  public TokenResponseDto registerAdmin(User user, AdminRequestDto requestDto) {
     if (!Objects.equals(adminToken, requestDto.getPassword())) {
       throw new CustomException(messageSource.getMessage(
           "wrong.token",
@@ -49,13 +60,20 @@ public class AdminService {
       ), HttpStatus.BAD_REQUEST);
     }
 
-    user.registerAdmin();
+    User curUser = userService.findUserById(user.getId());
+    curUser.registerAdmin();
 
-    userService.saveUser(user);
+    userService.saveUser(curUser);
+    userService.evictCachedUser(curUser.getId());
+
+    return authService.issueTokens(curUser);
   }
 
+  /**
+   * 인증 주체(claims/캐시)가 아닌 DB 기준 권한을 반환합니다.
+   */
   public AdminRoleResponseDto getUserRole(User user) {
-    return AdminMapper.toAdminRoleResponseDto(user.getRole());
+    return AdminMapper.toAdminRoleResponseDto(userService.findUserById(user.getId()).getRole());
   }
 
   public Page<AdminBroadcastListResponseDto> getBroadcasts(int page) {
@@ -66,16 +84,27 @@ public class AdminService {
     return userService.getAllUserListPageable(page - 1, PAGEABLE_SIZE);
   }
 
+  public CursorPageDto<AdminBroadcastListResponseDto> getBroadcastsByCursor(Long cursor) {
+    return broadcastService.getBroadcastListByCursor(cursor, PAGEABLE_SIZE);
+  }
+
+  public CursorPageDto<AdminUserListResponseDto> getUsersByCursor(Long cursor) {
+    return userService.getUserListByCursor(cursor, PAGEABLE_SIZE);
+  }
+
   public AdminBroadcastDetailResponseDto getBroadcastDetails(Long broadcastId) {
     Broadcast broadcast = broadcastService.findByBroadcastId(broadcastId);
 
-    Long totalOrderCount = orderService.sumOrderQuantity(broadcastId);
-    Long totalSalePrice = totalOrderCount * broadcast.getProduct().getPrice();
+    BroadcastSalesDto sales = broadcastSalesService.getSales(broadcastId);
 
-    return AdminMapper.toAdminBroadcastDetailResponseDto(broadcast, broadcast.getProduct(), totalOrderCount, totalSalePrice);
+    return AdminMapper.toAdminBroadcastDetailResponseDto(broadcast, broadcast.getProduct(), sales);
   }
 
   public Page<AdminConsumerResponseDto> getConsumers(Long broadcastId, int page) {
     return orderService.getAllOrderByBroadcastId(broadcastId, page - 1, PAGEABLE_SIZE);
   }
+
+  public CursorPageDto<AdminConsumerResponseDto> getConsumersByCursor(Long broadcastId, Long cursor) {
+    return orderService.getOrdersByBroadcastIdAndCursor(broadcastId, cursor, PAGEABLE_SIZE);
+  }
 }
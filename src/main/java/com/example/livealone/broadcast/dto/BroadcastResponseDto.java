@@ -8,12 +8,12 @@ import lombok.Getter;
 @Builder
 public class BroadcastResponseDto {
 
-  private Long broadcastId;
-  private String broadcastTitle;
-  private Long productId;
-  private String productName;
-  private Integer productPrice;
-  private Long productQuantity;
-  private String productIntroduction;
+  private final Long broadcastId;
+  private final String broadcastTitle;
+  private final Long productId;
+  private final String productName;
+  private final Integer productPrice;
+  private final Long productQuantity;
+  private final String productIntroduction;
 
 }
@@ -0,0 +1,16 @@
+package com.example.livealone.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 방송별 판매 집계 (총 주문 수량, 주문 건수, 결제 금액)
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastSalesDto {
+  private Long broadcastId;
+  private long totalQuantity;
+  private long orderCount;
+  private long revenue;
+}
@@ -1,5 +1,6 @@
 package com.example.livealone.broadcast.entity;
 
+import com.example.livealone.global.entity.IdSequence;
 import com.example.livealone.global.entity.Timestamp;
 import com.example.livealone.product.entity.Product;
 import com.example.livealone.reservation.entity.Reservations;
@@ -16,6 +17,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,7 +28,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "broadcasts")
 public class Broadcast extends Timestamp {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "broadcasts_id")
+	@TableGenerator(name = "broadcasts_id", table = IdSequence.TABLE, pkColumnName = IdSequence.SEGMENT_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "broadcasts", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 
 	@Column(nullable = false)
@@ -0,0 +1,46 @@
+package com.example.livealone.broadcast.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 방송별 판매 카운터를 주기적으로 맞춰 저장하는 요약 테이블
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "broadcast_sales")
+public class BroadcastSales {
+
+	@Id
+	private Long broadcastId;
+
+	@Column(nullable = false)
+	private long totalQuantity;
+
+	@Column(nullable = false)
+	private long orderCount;
+
+	@Column(nullable = false)
+	private long revenue;
+
+	@Column(nullable = false)
+	private LocalDateTime reconciledAt;
+
+	public BroadcastSales(Long broadcastId) {
+		this.broadcastId = broadcastId;
+	}
+
+	public void update(long totalQuantity, long orderCount, long revenue) {
+		this.totalQuantity = totalQuantity;
+		this.orderCount = orderCount;
+		this.revenue = revenue;
+		this.reconciledAt = LocalDateTime.now();
+	}
+}
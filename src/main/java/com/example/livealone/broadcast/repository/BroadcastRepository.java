@@ -4,11 +4,21 @@ import com.example.livealone.broadcast.entity.Broadcast;
 import com.example.livealone.broadcast.entity.BroadcastStatus;
 import com.example.livealone.reservation.entity.Reservations;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BroadcastRepository extends JpaRepository<Broadcast, Long>, BroadcastRepositoryQuery {
   Optional<Broadcast> findByBroadcastStatus(BroadcastStatus status);
 
   Optional<Broadcast> findByReservation(Reservations code);
+
+  /**
+   * 관리자 방송 목록용. 목록에서 쓰는 streamer 와, PK가 아닌 컬럼으로 연결되어 지연 로딩되지 않는 reservation 을 함께 조회합니다.
+   */
+  @Override
+  @EntityGraph(attributePaths = {"streamer", "reservation"})
+  Page<Broadcast> findAll(Pageable pageable);
 }
 
@@ -1,6 +1,8 @@
 package com.example.livealone.broadcast.repository;
 
+import com.example.livealone.admin.dto.AdminBroadcastListResponseDto;
 import com.example.livealone.broadcast.dto.UserBroadcastResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import java.awt.print.Pageable;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -9,4 +11,6 @@ public interface BroadcastRepositoryQuery {
 
   Page<UserBroadcastResponseDto> findAllByUserId(Long userId, int page, int size);
 
+  CursorPageDto<AdminBroadcastListResponseDto> findBroadcastListByCursor(Long cursor, int size);
+
 }
@@ -1,14 +1,18 @@
 package com.example.livealone.broadcast.repository;
 
 import static com.example.livealone.broadcast.entity.QBroadcast.broadcast;
-import static com.example.livealone.order.entity.QOrder.order;
+import static com.example.livealone.broadcast.entity.QBroadcastSales.broadcastSales;
 
+import com.example.livealone.admin.dto.AdminBroadcastListResponseDto;
 import com.example.livealone.broadcast.dto.QUserBroadcastResponseDto;
 import com.example.livealone.broadcast.dto.UserBroadcastResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
+import com.example.livealone.user.entity.QUser;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,13 +37,11 @@ public class BroadcastRepositoryQueryImpl implements BroadcastRepositoryQuery {
           broadcast.broadcastStatus,
           broadcast.product.name,
           broadcast.reservation.airTime,
-          broadcast.product.price.multiply(
-              JPAExpressions.select(order.quantity.sum().coalesce(0).as("quentity"))
-                  .from(order)
-                  .where(order.broadcast.id.eq(broadcast.id))
-          )
+          // 주문 테이블을 매번 합산하지 않고 주기적으로 맞춰지는 방송별 판매 요약을 사용합니다.
+          broadcast.product.price.multiply(broadcastSales.totalQuantity.coalesce(0L)).intValue()
         ))
         .from(broadcast)
+        .leftJoin(broadcastSales).on(broadcastSales.broadcastId.eq(broadcast.id))
         .where(broadcast.streamer.id.eq(userId))
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
@@ -56,4 +58,49 @@ public class BroadcastRepositoryQueryImpl implements BroadcastRepositoryQuery {
 
   }
 
+  /**
+   * 관리자 방송 목록 커서 조회. 목록에 필요한 컬럼만 (생성 시각, 방송 ID) 내림차순으로 조회합니다.
+   * pooled ID 는 생성 순서와 다를 수 있으므로 cursor 방송의 생성 시각 기준으로 다음 페이지를 찾습니다.
+   */
+  @Override
+  public CursorPageDto<AdminBroadcastListResponseDto> findBroadcastListByCursor(Long cursor, int size) {
+    QUser streamer = new QUser("streamer");
+
+    BooleanExpression after = null;
+    if (cursor != null) {
+      LocalDateTime cursorCreatedAt = queryFactory.select(broadcast.createdAt)
+          .from(broadcast)
+          .where(broadcast.id.eq(cursor))
+          .fetchOne();
+      if (cursorCreatedAt == null) {
+        return CursorPageDto.of(List.of(), size, AdminBroadcastListResponseDto::getId);
+      }
+      after = broadcast.createdAt.lt(cursorCreatedAt)
+          .or(broadcast.createdAt.eq(cursorCreatedAt).and(broadcast.id.lt(cursor)));
+    }
+
+    List<AdminBroadcastListResponseDto> fetch = queryFactory.select(
+          broadcast.id,
+          broadcast.title,
+          streamer.username,
+          broadcast.createdAt
+        )
+        .from(broadcast)
+        .innerJoin(broadcast.streamer, streamer)
+        .where(after)
+        .orderBy(broadcast.createdAt.desc(), broadcast.id.desc())
+        .limit(size + 1)
+        .fetch()
+        .stream()
+        .map(tuple -> AdminBroadcastListResponseDto.builder()
+            .id(tuple.get(broadcast.id))
+            .title(tuple.get(broadcast.title))
+            .streamer(tuple.get(streamer.username))
+            .date(tuple.get(broadcast.createdAt).toLocalDate())
+            .build())
+        .toList();
+
+    return CursorPageDto.of(fetch, size, AdminBroadcastListResponseDto::getId);
+  }
+
 }
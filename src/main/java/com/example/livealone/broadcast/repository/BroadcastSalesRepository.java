@@ -0,0 +1,16 @@
+package com.example.livealone.broadcast.repository;
+
+import com.example.livealone.broadcast.entity.BroadcastSales;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface BroadcastSalesRepository extends JpaRepository<BroadcastSales, Long> {
+
+  /**
+   * 요약 행이 아직 없는 방송 ID (요약 테이블 도입 이전 방송 등)
+   */
+  @Query("SELECT b.id FROM Broadcast b WHERE NOT EXISTS "
+      + "(SELECT s FROM BroadcastSales s WHERE s.broadcastId = b.id)")
+  List<Long> findBroadcastIdsWithoutSales();
+}
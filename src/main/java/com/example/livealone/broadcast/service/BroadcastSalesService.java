@@ -0,0 +1,233 @@
+package com.example.livealone.broadcast.service;
+
+import com.example.livealone.broadcast.dto.BroadcastSalesDto;
+import com.example.livealone.broadcast.entity.BroadcastSales;
+import com.example.livealone.broadcast.repository.BroadcastSalesRepository;
+import com.example.livealone.order.dto.OrderEventDto;
+import com.example.livealone.order.repository.OrderRepository;
+import com.example.livealone.outbox.service.OutboxRelay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방송별 판매 카운터 (총 주문 수량, 주문 건수, 결제 금액)
+ *
+ * order-events 토픽의 주문/결제 이벤트로 Redis 해시(BroadcastSales:{broadcastId})를 증감하고,
+ * 변경된 방송은 dirty 집합에 모아 두었다가 스케쥴러가 주문 테이블 기준으로 다시 집계해 broadcast_sales 요약 테이블과 Redis에 맞춥니다.
+ * 다시 집계하는 사이에 들어온 이벤트는 방송을 다시 dirty 로 만들기 때문에 다음 주기에 맞춰집니다.
+ * 요약 행이 없는 방송은 서버 시작 시 dirty 에 넣어 첫 주기에 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastSalesService {
+
+  private static final String REDIS_SALES_KEY = "BroadcastSales:";
+  private static final String REDIS_DIRTY_KEY = "BroadcastSales:dirty";
+  private static final String REDIS_EVENT_KEY = "BroadcastSales:event:";
+  private static final String RECONCILE_LOCK_KEY = "LOCK:broadcast-sales-reconcile";
+
+  private static final String QUANTITY = "quantity";
+  private static final String ORDER_COUNT = "orderCount";
+  private static final String REVENUE = "revenue";
+
+  // 같은 이벤트가 다시 와도(at-least-once) 한 번만 반영합니다.
+  private static final String APPLY_EVENT_SCRIPT =
+      "if redis.call('set', KEYS[2], '1', 'NX', 'PX', ARGV[4]) then "
+          + "redis.call('hincrby', KEYS[1], 'quantity', ARGV[1]) "
+          + "redis.call('hincrby', KEYS[1], 'orderCount', ARGV[2]) "
+          + "redis.call('hincrby', KEYS[1], 'revenue', ARGV[3]) "
+          + "redis.call('sadd', KEYS[3], ARGV[5]) "
+          + "return 1 end "
+          + "return 0";
+
+  private final RedissonClient redissonClient;
+  private final OrderRepository orderRepository;
+  private final BroadcastSalesRepository broadcastSalesRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${broadcast.sales.event-ttl:86400000}")
+  private long eventTtl;
+
+  @Value("${broadcast.sales.reconcile-batch-size:200}")
+  private int reconcileBatchSize;
+
+  @Value("${broadcast.sales.reconcile-lease-time:60000}")
+  private long reconcileLeaseTime;
+
+  @KafkaListener(
+      topics = OutboxRelay.ORDER_EVENT_TOPIC,
+      groupId = "broadcast-sales",
+      containerFactory = "orderEventListenerContainerFactory"
+  )
+  public void consume(ConsumerRecord<String, String> record) throws JsonProcessingException {
+    OrderEventDto orderEventDto = objectMapper.readValue(record.value(), OrderEventDto.class);
+
+    long quantity = 0;
+    long orderCount = 0;
+    long revenue = 0;
+    switch (orderEventDto.getEventType()) {
+      case ORDER_CREATED -> {
+        quantity = orderEventDto.getQuantity();
+        orderCount = 1;
+      }
+      case ORDER_CANCELED, ORDER_EXPIRED -> {
+        quantity = -orderEventDto.getQuantity();
+        orderCount = -1;
+      }
+      case PAYMENT_COMPLETED -> revenue = orderEventDto.getAmount();
+    }
+
+    Long broadcastId = orderEventDto.getBroadcastId();
+    redissonClient.getScript(StringCodec.INSTANCE).eval(
+        RScript.Mode.READ_WRITE,
+        APPLY_EVENT_SCRIPT,
+        RScript.ReturnType.BOOLEAN,
+        List.of(REDIS_SALES_KEY + broadcastId, REDIS_EVENT_KEY + eventId(record), REDIS_DIRTY_KEY),
+        String.valueOf(quantity), String.valueOf(orderCount), String.valueOf(revenue), String.valueOf(eventTtl),
+        String.valueOf(broadcastId)
+    );
+  }
+
+  /**
+   * 방송 판매 집계를 조회합니다. Redis 카운터가 없으면 요약 테이블(없으면 주문 테이블)에서 읽고 다음 주기에 채워지도록 합니다.
+   * @param broadcastId
+   * @return
+   */
+  public BroadcastSalesDto getSales(Long broadcastId) {
+    Map<String, String> counters = redissonClient.<String, String>getMap(REDIS_SALES_KEY + broadcastId,
+        StringCodec.INSTANCE).readAllMap();
+    if (!counters.isEmpty()) {
+      return new BroadcastSalesDto(broadcastId, parse(counters.get(QUANTITY)), parse(counters.get(ORDER_COUNT)),
+          parse(counters.get(REVENUE)));
+    }
+
+    getDirty().add(String.valueOf(broadcastId));
+
+    return broadcastSalesRepository.findById(broadcastId)
+        .map(sales -> new BroadcastSalesDto(broadcastId, sales.getTotalQuantity(), sales.getOrderCount(),
+            sales.getRevenue()))
+        .orElseGet(() -> orderRepository.sumSalesByBroadcastIds(List.of(broadcastId)).get(0));
+  }
+
+  /**
+   * 요약 행이 없는 방송을 dirty 집합에 넣어 다음 reconcile 주기에 broadcast_sales 를 채웁니다.
+   * 이미 채워진 방송은 건너뛰므로 서버가 여러 번 시작되어도 한 번만 집계됩니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    try {
+      List<Long> broadcastIds = broadcastSalesRepository.findBroadcastIdsWithoutSales();
+      if (broadcastIds.isEmpty()) {
+        return;
+      }
+
+      getDirty().addAll(broadcastIds.stream().map(String::valueOf).toList());
+      log.info("방송 판매 집계 backfill 대상 {}건", broadcastIds.size());
+    } catch (Exception e) {
+      log.error("방송 판매 집계 backfill 실패 {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 변경된 방송의 판매 집계를 주문 테이블 기준으로 다시 계산해 요약 테이블과 Redis 카운터에 반영합니다.
+   */
+  @Scheduled(fixedDelayString = "${broadcast.sales.reconcile-interval:60000}")
+  public void reconcile() {
+    RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+    try {
+      if (!lock.tryLock(0, reconcileLeaseTime, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    try {
+      Set<String> broadcastIds;
+      do {
+        broadcastIds = getDirty().removeRandom(reconcileBatchSize);
+        if (!broadcastIds.isEmpty()) {
+          reconcile(broadcastIds);
+        }
+      } while (broadcastIds.size() == reconcileBatchSize);
+    } finally {
+      if (lock.isHeldByCurrentThread()) {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void reconcile(Set<String> dirtyIds) {
+    List<Long> broadcastIds = dirtyIds.stream().map(Long::valueOf).toList();
+
+    try {
+      List<BroadcastSalesDto> salesList = orderRepository.sumSalesByBroadcastIds(broadcastIds);
+
+      transactionTemplate.executeWithoutResult(status -> {
+        Map<Long, BroadcastSales> rows = broadcastSalesRepository.findAllById(broadcastIds).stream()
+            .collect(Collectors.toMap(BroadcastSales::getBroadcastId, Function.identity()));
+        for (BroadcastSalesDto sales : salesList) {
+          rows.computeIfAbsent(sales.getBroadcastId(), BroadcastSales::new)
+              .update(sales.getTotalQuantity(), sales.getOrderCount(), sales.getRevenue());
+        }
+        broadcastSalesRepository.saveAll(rows.values());
+      });
+
+      RBatch batch = redissonClient.createBatch();
+      for (BroadcastSalesDto sales : salesList) {
+        batch.<String, String>getMap(REDIS_SALES_KEY + sales.getBroadcastId(), StringCodec.INSTANCE).putAllAsync(Map.of(
+            QUANTITY, String.valueOf(sales.getTotalQuantity()),
+            ORDER_COUNT, String.valueOf(sales.getOrderCount()),
+            REVENUE, String.valueOf(sales.getRevenue())
+        ));
+      }
+      batch.execute();
+    } catch (Exception e) {
+      log.error("방송 판매 집계 동기화 실패 broadcastIds : {}, {}", broadcastIds, e.getMessage());
+      getDirty().addAll(dirtyIds);
+    }
+  }
+
+  private String eventId(ConsumerRecord<String, String> record) {
+    Header header = record.headers().lastHeader(OutboxRelay.EVENT_ID_HEADER);
+    if (header == null) {
+      return record.topic() + "-" + record.partition() + "-" + record.offset();
+    }
+    return new String(header.value(), StandardCharsets.UTF_8);
+  }
+
+  private long parse(String value) {
+    return value == null ? 0L : Long.parseLong(value);
+  }
+
+  private RSet<String> getDirty() {
+    return redissonClient.getSet(REDIS_DIRTY_KEY, StringCodec.INSTANCE);
+  }
+}
@@ -14,13 +14,16 @@ import com.example.livealone.broadcast.dto.StreamKeyResponseDto;
 import com.example.livealone.broadcast.dto.UserBroadcastResponseDto;
 import com.example.livealone.broadcast.entity.Broadcast;
 import com.example.livealone.broadcast.entity.BroadcastStatus;
-import com.example.livealone.product.dto.ProductResponseDto;
+import com.example.livealone.product.dto.CachedProductDto;
 import com.example.livealone.product.service.ProductService;
 import com.example.livealone.reservation.entity.Reservations;
 import com.example.livealone.broadcast.mapper.BroadcastMapper;
 import com.example.livealone.broadcast.repository.BroadcastRepository;
+import com.example.livealone.global.cache.TwoTierCache;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.global.dto.SocketMessageDto;
 import com.example.livealone.global.exception.CustomException;
+import com.example.livealone.global.socket.SocketMessageSender;
 import com.example.livealone.product.entity.Product;
 import com.example.livealone.product.repository.ProductRepository;
 import com.example.livealone.reservation.service.ReservationService;
@@ -28,15 +31,14 @@ import com.example.livealone.user.entity.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
 import org.redisson.api.RTransaction;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.TransactionOptions;
@@ -47,10 +49,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -66,7 +68,10 @@ public class BroadcastService {
   private final ObjectMapper objectMapper;
   private final MessageSource messageSource;
   private final RedissonClient redissonClient;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final SocketMessageSender socketMessageSender;
+  private final TwoTierCache<BroadcastResponseDto> onAirBroadcastCache;
+  private final TwoTierCache<CachedProductDto> productCache;
+  private final PlatformTransactionManager transactionManager;
 
   private static final int PAGE_SIZE = 5;
   public static final String REDIS_ONAIR_BROADCAST_KEY = "OnAirBroadcast";
@@ -74,11 +79,17 @@ public class BroadcastService {
   @Value("${default.stream-key}")
   private String DEFAULT_STREAM_KEY;
 
+  private TransactionTemplate readOnlyTransaction;
+
+  @PostConstruct
+  public void init() {
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
 
   public CreateBroadcastResponseDto createBroadcast(BroadcastRequestDto boardRequestDto, User user)
       throws JsonProcessingException {
-    RBucket<BroadcastResponseDto> bucket = redissonClient.getBucket(REDIS_ONAIR_BROADCAST_KEY);
-
     Reservations reservations = reservationService.findReservation(user);
 
     Product product = productRepository.findById(boardRequestDto.getProductId()).orElseThrow(
@@ -99,7 +110,7 @@ public class BroadcastService {
     Broadcast saveBroadcast = broadcastRepository.save(broadcast);
 
     BroadcastResponseDto redis = BroadcastMapper.toBroadcastResponseDto(saveBroadcast, saveBroadcast.getProduct());
-    bucket.set(redis, 1, TimeUnit.HOURS);
+    onAirBroadcastCache.put(REDIS_ONAIR_BROADCAST_KEY, redis);
 
     sendStreamKeyAllSession(BroadcastMapper.toStreamKeyResponseDto(true, reservations.getCode()));
 
@@ -112,26 +123,33 @@ public class BroadcastService {
     return broadcastRepository.findAllByUserId(userId, page, PAGE_SIZE);
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * 캐시 적중 시에는 트랜잭션을 열지 않고, 원본 조회(백그라운드 갱신 포함)만 읽기 전용 트랜잭션에서 실행합니다.
+   * 진행 중인 방송이 없으면 그 결과도 짧게 캐시됩니다.
+   */
   public BroadcastResponseDto inquiryCurrentBroadcast() {
-    RBucket<BroadcastResponseDto> bucket = redissonClient.getBucket(REDIS_ONAIR_BROADCAST_KEY);
-    if (bucket.isExists()) {
-      return bucket.get();
+    BroadcastResponseDto broadcast = onAirBroadcastCache.get(REDIS_ONAIR_BROADCAST_KEY,
+        () -> readOnlyTransaction.execute(status -> loadCurrentBroadcast()));
+
+    if (broadcast == null) {
+      throw new CustomException(messageSource.getMessage(
+          "no.exit.current.broadcast",
+          null,
+          CustomException.DEFAULT_ERROR_MESSAGE,
+          Locale.getDefault()
+      ), HttpStatus.NOT_FOUND);
     }
 
-    Broadcast broadcast = broadcastRepository.findByBroadcastStatus(BroadcastStatus.ONAIR)
-        .orElseThrow(() ->
-            new CustomException(messageSource.getMessage(
-                "no.exit.current.broadcast",
-                null,
-                CustomException.DEFAULT_ERROR_MESSAGE,
-                Locale.getDefault()
-            ), HttpStatus.NOT_FOUND)
-        );
-
-    Product product = broadcast.getProduct();
+    return broadcast;
+  }
 
-    return BroadcastMapper.toBroadcastResponseDto(broadcast, product);
+  /**
+   * @return 진행 중인 방송, 없으면 null
+   */
+  private BroadcastResponseDto loadCurrentBroadcast() {
+    return broadcastRepository.findByBroadcastStatus(BroadcastStatus.ONAIR)
+        .map(broadcast -> BroadcastMapper.toBroadcastResponseDto(broadcast, broadcast.getProduct()))
+        .orElse(null);
   }
 
   public void closeBroadcast(User user) throws JsonProcessingException {
@@ -149,9 +167,6 @@ public class BroadcastService {
               ), HttpStatus.NOT_FOUND)
           );
 
-      RBucket<BroadcastResponseDto> broadcastBucket = redissonClient.getBucket(REDIS_ONAIR_BROADCAST_KEY);
-      RBucket<ProductResponseDto> productBucket = redissonClient.getBucket(ProductService.REDIS_PRODUCT_KEY + broadcast.getProduct().getId());
-
       if (!Objects.equals(broadcast.getStreamer().getId(), user.getId())) {
         throw new CustomException(messageSource.getMessage(
             "user.not.match",
@@ -163,8 +178,8 @@ public class BroadcastService {
 
       broadcastRepository.save(broadcast.closeBroadcast());
 
-      deleteCache(broadcastBucket);
-      deleteCache(productBucket);
+      onAirBroadcastCache.evict(REDIS_ONAIR_BROADCAST_KEY);
+      productCache.evict(ProductService.REDIS_PRODUCT_KEY + broadcast.getProduct().getId());
 
       redisTransaction.commit();
 
@@ -183,16 +198,16 @@ public class BroadcastService {
     RTransaction redisTransaction = redissonClient.createTransaction(TransactionOptions.defaults());
 
     try {
-      RBucket<BroadcastResponseDto> broadcastBucket = redissonClient.getBucket(REDIS_ONAIR_BROADCAST_KEY);
-      if(!broadcastBucket.isExists())
+      // 캐시 버킷에는 값 없음 표시가 들어 있을 수 있으므로 DB 기준으로 진행 중인 방송을 확인합니다.
+      Optional<Broadcast> onAirBroadcast = broadcastRepository.findByBroadcastStatus(BroadcastStatus.ONAIR);
+      if (onAirBroadcast.isEmpty())
         return;
-      RBucket<Product> productBucket = redissonClient.getBucket(ProductService.REDIS_PRODUCT_KEY + broadcastBucket.get().getProductId());
 
-      broadcastRepository.findByBroadcastStatus(BroadcastStatus.ONAIR)
-          .ifPresent(broadcast -> broadcastRepository.save(broadcast.closeBroadcast()));
+      Broadcast broadcast = onAirBroadcast.get();
+      broadcastRepository.save(broadcast.closeBroadcast());
 
-      deleteCache(broadcastBucket);
-      deleteCache(productBucket);
+      onAirBroadcastCache.evict(REDIS_ONAIR_BROADCAST_KEY);
+      productCache.evict(ProductService.REDIS_PRODUCT_KEY + broadcast.getProduct().getId());
 
       redisTransaction.commit();
 
@@ -250,7 +265,7 @@ public class BroadcastService {
     String messageJSON = objectMapper.writeValueAsString(responseDto);
     SocketMessageDto socketMessageDto = new SocketMessageDto(BROADCAST, "server", messageJSON);
 
-    messagingTemplate.convertAndSend("/queue/broadcast",socketMessageDto);
+    socketMessageSender.send("/queue/broadcast",socketMessageDto);
   }
 
   public BroadcastTitleResponseDto getBroadcastTitle(Long broadcastId) {
@@ -278,9 +293,7 @@ public class BroadcastService {
         broadcastPage.getTotalElements());
   }
 
-  private void deleteCache(RBucket<?> bucket) {
-    if (bucket.isExists()) {
-      bucket.delete();
-    }
+  public CursorPageDto<AdminBroadcastListResponseDto> getBroadcastListByCursor(Long cursor, int size) {
+    return broadcastRepository.findBroadcastListByCursor(cursor, size);
   }
 }
\ No newline at end of file
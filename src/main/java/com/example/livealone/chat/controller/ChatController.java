@@ -1,17 +1,22 @@
 package com.example.livealone.chat.controller;
 
+import com.example.livealone.chat.service.ChatInitCache;
 import com.example.livealone.chat.service.ChatService;
+import com.example.livealone.global.dto.EncodedSocketMessage;
 import com.example.livealone.global.dto.SocketMessageDto;
+import com.example.livealone.global.socket.SocketMessageSender;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -22,24 +27,39 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatInitCache chatInitCache;
     private final KafkaTemplate<String, String> kafkaTemplate;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketMessageSender socketMessageSender;
 
     @MessageMapping("/session")
-    @SendToUser("/queue/reply")
+    @SendToUser(value = "/queue/reply", broadcast = false)
     public String getAuthRequest(SocketMessageDto socketMessageDto) throws JsonProcessingException {
         return chatService.createSessionReply(socketMessageDto);
     }
 
+    /**
+     * 채팅 레코드는 보낸 STOMP 세션 ID를 키로 발행합니다.
+     * 같은 세션의 채팅 순서는 유지되고, 전체 채팅은 파티션에 고르게 나뉘어 리스너 스레드 수만큼 나눠 처리됩니다.
+     * @param chat
+     * @param sessionId
+     * @throws JsonProcessingException
+     */
     @MessageMapping("/send")
-    public void getMessageRequest(SocketMessageDto chat) throws JsonProcessingException {
+    public void getMessageRequest(SocketMessageDto chat,
+        @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) throws JsonProcessingException {
         String kafkaMessage = chatService.createKafkaMessage(chat);
-        kafkaTemplate.send("chat", kafkaMessage);
+        kafkaTemplate.send("chat", sessionId, kafkaMessage);
     }
 
-    @KafkaListener(topics = "chat")
-    public void listenGroupChat(String message) {
-        SocketMessageDto socketMessageDto = chatService.write(message);
-        messagingTemplate.convertAndSend("/queue/message", socketMessageDto);
+    /**
+     * Kafka 레코드는 이미 SocketMessageDto JSON이므로 역직렬화 없이 그대로 구독자에게 중계합니다.
+     * @param messages
+     */
+    @KafkaListener(topics = "chat", containerFactory = "chatListenerContainerFactory")
+    public void listenGroupChat(List<String> messages) {
+        for (String message : messages) {
+            chatInitCache.append(message);
+            socketMessageSender.send("/queue/message", EncodedSocketMessage.wrap(message));
+        }
     }
 }
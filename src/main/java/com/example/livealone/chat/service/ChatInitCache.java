@@ -0,0 +1,167 @@
+package com.example.livealone.chat.service;
+
+import com.example.livealone.chat.dto.ChatInitDto;
+import com.example.livealone.chat.entity.ChatMessage;
+import com.example.livealone.chat.repository.ChatMessageRepository;
+import com.example.livealone.global.dto.SocketMessageDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.livealone.global.entity.SocketMessageType.CHAT_MESSAGE;
+import static com.example.livealone.global.entity.SocketMessageType.RESPONSE_CHAT_INIT;
+
+/**
+ * 채팅방 입장 시 보내는 최근 채팅 30개 캐시
+ *
+ * Kafka로 받은 채팅 레코드를 역직렬화하지 않고 노드별 링 버퍼에 쌓아두고,
+ * 직렬화된 응답은 새 채팅이 들어온 뒤 처음 요청될 때만 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInitCache {
+
+    private static final int INIT_MESSAGE_COUNT = 30;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Entry[] ring = new Entry[INIT_MESSAGE_COUNT];
+    private int head;
+    private int size;
+
+    private volatile String payload;
+
+    @PostConstruct
+    public void init() {
+        try {
+            List<ChatMessage> chatList = chatMessageRepository.findTop30ByOrderByIdDesc();
+            for (int i = chatList.size() - 1; i >= 0; i--) {
+                ChatMessage chat = chatList.get(i);
+                add(new Entry(null, new ChatInitDto(chat.getNickname(), chat.getMessage())));
+            }
+        } catch (Exception e) {
+            log.error("최근 채팅 불러오기 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Kafka로 받은 SocketMessageDto JSON을 그대로 보관합니다. 역직렬화는 응답을 다시 만들 때 한 번만 합니다.
+     * 채팅이 아닌 레코드가 자리를 차지하지 않도록 type 필드만 먼저 읽어서 CHAT_MESSAGE 만 보관합니다.
+     * @param record
+     */
+    public void append(String record) {
+        if (isChatMessage(record)) {
+            add(new Entry(record, null));
+        }
+    }
+
+    /**
+     * RESPONSE_CHAT_INIT 응답 JSON을 반환합니다.
+     * @return 직렬화된 SocketMessageDto
+     * @throws JsonProcessingException
+     */
+    public String getPayload() throws JsonProcessingException {
+        String cached = payload;
+        if (cached != null) {
+            return cached;
+        }
+
+        return rebuild();
+    }
+
+    /**
+     * 최상위 type 필드까지만 토큰을 읽습니다.
+     */
+    private boolean isChatMessage(String record) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(record)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("type".equals(field)) {
+                    return CHAT_MESSAGE.name().equals(parser.getValueAsString());
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("채팅 레코드 파싱 실패 : {}", e.getMessage());
+        }
+
+        return false;
+    }
+
+    private synchronized void add(Entry entry) {
+        ring[head] = entry;
+        head = (head + 1) % INIT_MESSAGE_COUNT;
+        if (size < INIT_MESSAGE_COUNT) {
+            size++;
+        }
+
+        payload = null;
+    }
+
+    private synchronized String rebuild() throws JsonProcessingException {
+        if (payload != null) {
+            return payload;
+        }
+
+        List<ChatInitDto> initData = new ArrayList<>(size);
+        int start = (head - size + INIT_MESSAGE_COUNT) % INIT_MESSAGE_COUNT;
+        for (int i = 0; i < size; i++) {
+            ChatInitDto chatInitDto = ring[(start + i) % INIT_MESSAGE_COUNT].parse(objectMapper);
+            if (chatInitDto != null) {
+                initData.add(chatInitDto);
+            }
+        }
+
+        String messageJSON = objectMapper.writeValueAsString(initData);
+        payload = objectMapper.writeValueAsString(new SocketMessageDto(RESPONSE_CHAT_INIT, "back-server", messageJSON));
+
+        return payload;
+    }
+
+    private static class Entry {
+
+        private final String record;
+        private ChatInitDto parsed;
+        private boolean isParsed;
+
+        private Entry(String record, ChatInitDto parsed) {
+            this.record = record;
+            this.parsed = parsed;
+            this.isParsed = parsed != null;
+        }
+
+        private ChatInitDto parse(ObjectMapper objectMapper) {
+            if (isParsed) {
+                return parsed;
+            }
+
+            isParsed = true;
+            try {
+                SocketMessageDto socketMessageDto = objectMapper.readValue(record, SocketMessageDto.class);
+                if (socketMessageDto.getType() == CHAT_MESSAGE) {
+                    parsed = new ChatInitDto(socketMessageDto.getMessenger(), socketMessageDto.getMessage());
+                }
+            } catch (JsonProcessingException e) {
+                log.debug("채팅 레코드 파싱 실패 : {}", e.getMessage());
+            }
+
+            return parsed;
+        }
+    }
+}
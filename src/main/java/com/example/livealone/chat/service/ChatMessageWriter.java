@@ -0,0 +1,206 @@
+package com.example.livealone.chat.service;
+
+import com.example.livealone.chat.entity.ChatMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 Write-Behind 저장기
+ *
+ * 메시지는 크기가 제한된 버퍼에 쌓이고, 전용 스레드가 batch-size 또는 flush-interval 기준으로 묶어서
+ * Mongo에 unordered bulk insert 합니다. 버퍼가 가득 차면 offer-timeout 동안 호출 스레드를 대기시킵니다.
+ * flush 는 호출 시점까지 넣은 메시지 수를 기록하고, 저장한 메시지 수가 그 값에 닿으면 끝나므로
+ * 뒤이어 들어오는 메시지 때문에 버퍼가 비지 않아도 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.writer.capacity:10000}")
+    private int capacity;
+
+    @Value("${chat.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.writer.flush-interval:200}")
+    private long flushInterval;
+
+    @Value("${chat.writer.offer-timeout:100}")
+    private long offerTimeout;
+
+    private final ConcurrentLinkedQueue<FlushRequest> flushRequests = new ConcurrentLinkedQueue<>();
+
+    // 버퍼에 넣은 메시지 수. 버퍼가 FIFO 이므로 저장한 메시지 수가 이 값에 닿으면 그 전 메시지는 모두 저장된 것입니다.
+    private final AtomicLong enqueued = new AtomicLong();
+
+    // writer 스레드만 읽고 씁니다.
+    private long drained;
+
+    private BlockingQueue<ChatMessage> buffer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(capacity);
+        running = true;
+
+        writerThread = new Thread(this::drainLoop, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 메시지를 버퍼에 추가합니다. 버퍼가 가득 차 offer-timeout 안에 넣지 못하면 false를 반환합니다.
+     * @param chatMessage
+     * @return 버퍼 추가 성공 여부
+     */
+    public boolean write(ChatMessage chatMessage) {
+        // offer 전에 올려야 먼저 들어간 메시지가 flush 대상에서 빠지지 않습니다.
+        enqueued.incrementAndGet();
+        try {
+            if (buffer.offer(chatMessage, offerTimeout, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        enqueued.decrementAndGet();
+        log.warn("채팅 메시지 버퍼가 가득 차 메시지를 저장하지 못했습니다.");
+        return false;
+    }
+
+    /**
+     * 호출 시점까지 버퍼에 넣은 메시지가 모두 저장될 때까지 최대 timeout 동안 기다립니다.
+     * @param timeout
+     * @param unit
+     */
+    public void flush(long timeout, TimeUnit unit) {
+        if (!writerThread.isAlive()) {
+            List<ChatMessage> remains = new ArrayList<>();
+            buffer.drainTo(remains);
+            insert(remains);
+            return;
+        }
+
+        FlushRequest request = new FlushRequest(enqueued.get());
+        flushRequests.add(request);
+
+        try {
+            request.future.get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("채팅 메시지 flush 실패 : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drainLoop() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            insert(batch);
+            drained += batch.size();
+            batch.clear();
+            completeFlushRequests();
+        }
+
+        completeFlushRequests();
+    }
+
+    private void fillBatch(List<ChatMessage> batch) throws InterruptedException {
+        ChatMessage first = buffer.poll(flushInterval, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !flushRequests.isEmpty()) {
+                return;
+            }
+
+            ChatMessage next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void insert(List<ChatMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(batch)
+                    .execute();
+        } catch (Exception e) {
+            log.error("채팅 메시지 {}건 저장 실패 : {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void completeFlushRequests() {
+        // 넣기에 실패해 되돌린 메시지가 있으면 drained 가 목표에 못 미칠 수 있으므로 버퍼가 비어도 끝냅니다.
+        boolean empty = buffer.isEmpty();
+
+        Iterator<FlushRequest> iterator = flushRequests.iterator();
+        while (iterator.hasNext()) {
+            FlushRequest request = iterator.next();
+            if (empty || drained >= request.sequence) {
+                iterator.remove();
+                request.future.complete(null);
+            }
+        }
+    }
+
+    private static class FlushRequest {
+
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private FlushRequest(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package com.example.livealone.chat.service;
 
-import com.example.livealone.chat.dto.ChatInitDto;
 import com.example.livealone.chat.entity.ChatErrorLog;
 import com.example.livealone.chat.entity.ChatMessage;
 import com.example.livealone.chat.entity.ChatSessionLog;
 import com.example.livealone.chat.repository.ChatErrorLogRepository;
-import com.example.livealone.chat.repository.ChatMessageRepository;
 import com.example.livealone.chat.repository.ChatSessionLogRepository;
 import com.example.livealone.global.dto.SocketMessageDto;
 import com.example.livealone.global.entity.SocketMessageType;
 import com.example.livealone.global.security.JwtService;
+import com.example.livealone.global.security.JwtVerification;
 import com.example.livealone.user.dto.ReissueRequestDto;
 import com.example.livealone.user.dto.TokenResponseDto;
 import com.example.livealone.user.service.AuthService;
@@ -21,9 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import static com.example.livealone.global.entity.SocketMessageType.*;
 
@@ -33,15 +32,15 @@ import static com.example.livealone.global.entity.SocketMessageType.*;
 public class ChatService {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatErrorLogRepository chatErrorLogRepository;
     private final ChatSessionLogRepository chatSessionLogRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatInitCache chatInitCache;
     private final ObjectMapper objectMapper;
     private final JwtService jwtService;
     private final AuthService authService;
     private final Random random = new Random();
 
-    private final ConcurrentLinkedQueue<ChatMessage> messageBuffer = new ConcurrentLinkedQueue<>();
     private final ConcurrentLinkedQueue<ChatErrorLog> errorLogsBuffer = new ConcurrentLinkedQueue<>();
     private final ConcurrentLinkedQueue<ChatSessionLog> sessionLogsBuffer = new ConcurrentLinkedQueue<>();
 
@@ -53,6 +52,7 @@ public class ChatService {
     };
 
     private static final int batchSize = 100;
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
 
     public String createSessionReply(SocketMessageDto socketMessageDto) throws JsonProcessingException {
         SocketMessageDto messageDto = null;
@@ -66,12 +66,12 @@ public class ChatService {
                     break;
                 }
                 String replaceToken = token.replace("Bearer ", "");
-                String isValidToken = jwtService.isValidToken(replaceToken);
-                if (!Objects.equals(isValidToken, "Valid")) {
-                    messageDto = new SocketMessageDto(INVALID_TOKEN, "back-server", isValidToken);
+                JwtVerification verification = jwtService.verify(replaceToken);
+                if (!verification.isValid()) {
+                    messageDto = new SocketMessageDto(INVALID_TOKEN, "back-server", verification.getFailure().getMessage());
                     break;
                 }
-                Claims claims = jwtService.getClaims(replaceToken);
+                Claims claims = verification.getClaims();
                 String nickname = claims.get("nickname", String.class);
 
                 String color;
@@ -100,21 +100,13 @@ public class ChatService {
                 }
             }
             case REQUEST_CHAT_INIT -> {
-                messageDto = writeInitMessages();
+                return writeInitMessages();
             }
         }
 
         return objectMapper.writeValueAsString(messageDto);
     }
 
-    public SocketMessageDto write(String message) {
-        try {
-            return objectMapper.readValue(message, SocketMessageDto.class);
-        } catch (JsonProcessingException e) {
-            return new SocketMessageDto(ERROR, "back-server", "메시지 전송 실패");
-        }
-    }
-
     public String createKafkaMessage(SocketMessageDto chat) throws JsonProcessingException {
         try {
             saveMessage(chat);
@@ -137,10 +129,7 @@ public class ChatService {
                     }
                 }
                 case CHAT_MESSAGE -> {
-                    chatMessageRepository.save(new ChatMessage(socketMessageDto.getMessenger(), socketMessageDto.getMessage()));
-                    if (messageBuffer.size() > batchSize) {
-                        saveChatMessages();
-                    }
+                    chatMessageWriter.write(new ChatMessage(socketMessageDto.getMessenger(), socketMessageDto.getMessage()));
                 }
                 case ERROR-> {
                     ChatErrorLog chatErrorLog = new ChatErrorLog(socketMessageDto.getMessage());
@@ -164,13 +153,6 @@ public class ChatService {
         }
     }
 
-    private synchronized void saveChatMessages() {
-        if (!messageBuffer.isEmpty()) {
-            chatMessageRepository.saveAll(new ArrayList<>(messageBuffer));
-            messageBuffer.clear();
-        }
-    }
-
     private synchronized void saveErrorLogs() {
         if (!errorLogsBuffer.isEmpty()) {
             chatErrorLogRepository.saveAll(new ArrayList<>(errorLogsBuffer));
@@ -188,30 +170,18 @@ public class ChatService {
 
     public void flush() {
         log.debug("서버 종료 전 버퍼에 있는 데이터 저장");
-        saveChatMessages();
+        chatMessageWriter.flush(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         saveErrorLogs();
         saveSessionLogs();
     }
 
-    private SocketMessageDto writeInitMessages() {
+    private String writeInitMessages() throws JsonProcessingException {
         try {
-            List<ChatMessage> chatList = chatMessageRepository.findTop30ByOrderByIdDesc();
-
-            List<ChatInitDto> initData = new ArrayList<>();
-            for (ChatMessage chat : chatList) {
-                String initNickname = chat.getNickname();
-                String initText = chat.getMessage();
-                ChatInitDto init = new ChatInitDto(initNickname, initText);
-                initData.add(init);
-            }
-            Collections.reverse(initData);
-            String messageJSON = objectMapper.writeValueAsString(initData);
-            return new SocketMessageDto(RESPONSE_CHAT_INIT, "back-server", messageJSON);
-
-        } catch (IOException e) {
+            return chatInitCache.getPayload();
+        } catch (JsonProcessingException e) {
             log.debug(e.getMessage());
             addErrorLogs(e.getMessage());
-            return new SocketMessageDto(ERROR, "back-server", "메시지 초기화 실패");
+            return objectMapper.writeValueAsString(new SocketMessageDto(ERROR, "back-server", "메시지 초기화 실패"));
         }
     }
 }
@@ -3,6 +3,7 @@ package com.example.livealone.delivery.controller;
 import com.example.livealone.delivery.dto.DeliveryHistoryResponseDto;
 import com.example.livealone.delivery.service.DeliveryService;
 import com.example.livealone.global.dto.CommonResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,4 +34,19 @@ public class DeliveryController {
 
         return ResponseEntity.ok().body(commonResponseDto);
     }
+
+    @GetMapping("/user/{userId}/delivery/cursor")
+    public ResponseEntity<CommonResponseDto<CursorPageDto<DeliveryHistoryResponseDto>>> getUserDeliveryHistoryByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor) {
+
+        CursorPageDto<DeliveryHistoryResponseDto> deliveryHistoryResponseDto = deliveryService.getUserDeliveryHistoryByCursor(userId, cursor);
+        CommonResponseDto<CursorPageDto<DeliveryHistoryResponseDto>> commonResponseDto = CommonResponseDto.<CursorPageDto<DeliveryHistoryResponseDto>>builder()
+                .status(HttpStatus.OK.value())
+                .message("User Delivery History inquiry successfully")
+                .data(deliveryHistoryResponseDto)
+                .build();
+
+        return ResponseEntity.ok().body(commonResponseDto);
+    }
 }
@@ -11,5 +11,6 @@ public class DeliveryHistoryResponseDto {
     private OrderStatus orderStatus;
     private String productName;
     private String address;
+    private Long orderId;
 
 }
@@ -1,6 +1,7 @@
 package com.example.livealone.delivery.service;
 
 import com.example.livealone.delivery.dto.DeliveryHistoryResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.user.repository.UserRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +12,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class DeliveryService {
 
+    private static final int DELIVERY_PAGE_SIZE = 5;
+
     private final UserRepository userRepository;
 
     public Page<DeliveryHistoryResponseDto> getUserDeliveryHistory(Long userId,int page) {
         return userRepository.findDeliveryHistoryByUserId(userId, page);
     }
+
+    public CursorPageDto<DeliveryHistoryResponseDto> getUserDeliveryHistoryByCursor(Long userId, Long cursor) {
+        return userRepository.findDeliveryHistoryByUserIdAndCursor(userId, cursor, DELIVERY_PAGE_SIZE);
+    }
 }
@@ -1,22 +1,92 @@
 package com.example.livealone.global.aop;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
  * Spring Expression Language Parser
+ *
+ * 키 문자열은 한 번만 파싱해서 캐시합니다.
+ * 'prefix-' + #arg 형태는 SpEL 없이 문자열을 이어 붙이고, 그 외에는 컴파일 모드(MIXED)의 SpEL로 평가합니다.
  */
 public class CustomSpringELParser {
 
+    private static final Pattern SIMPLE_KEY = Pattern.compile("^\\s*'([^']*)'\\s*\\+\\s*#(\\w+)\\s*$");
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CustomSpringELParser.class.getClassLoader()));
+
+    private static final Map<String, KeyTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        ExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext context = new StandardEvaluationContext();
+        return getKeyResolver(parameterNames, key).resolve(args);
+    }
+
+    /**
+     * 파라미터 이름이 고정된 메서드에서 반복해서 쓸 수 있는 키 계산기를 반환합니다.
+     * @param parameterNames
+     * @param key
+     * @return 키 계산기
+     */
+    public static KeyResolver getKeyResolver(String[] parameterNames, String key) {
+        return TEMPLATES.computeIfAbsent(key, KeyTemplate::parse).bind(parameterNames);
+    }
+
+    @FunctionalInterface
+    public interface KeyResolver {
+
+        Object resolve(Object[] args);
+    }
 
-        for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
+    private static class KeyTemplate {
+
+        private final String prefix;
+        private final String variable;
+        private final Expression expression;
+
+        private KeyTemplate(String prefix, String variable, Expression expression) {
+            this.prefix = prefix;
+            this.variable = variable;
+            this.expression = expression;
+        }
+
+        private static KeyTemplate parse(String key) {
+            Matcher matcher = SIMPLE_KEY.matcher(key);
+            if (matcher.matches()) {
+                return new KeyTemplate(matcher.group(1), matcher.group(2), null);
+            }
+
+            return new KeyTemplate(null, null, PARSER.parseExpression(key));
         }
 
-        return parser.parseExpression(key).getValue(context, Object.class);
+        private KeyResolver bind(String[] parameterNames) {
+            if (expression == null) {
+                for (int i = 0; i < parameterNames.length; i++) {
+                    if (parameterNames[i].equals(variable)) {
+                        int index = i;
+                        return args -> prefix + args[index];
+                    }
+                }
+
+                return args -> prefix + null;
+            }
+
+            return args -> {
+                StandardEvaluationContext context = new StandardEvaluationContext();
+                for (int i = 0; i < parameterNames.length; i++) {
+                    context.setVariable(parameterNames[i], args[i]);
+                }
+
+                return expression.getValue(context, Object.class);
+            };
+        }
     }
 }
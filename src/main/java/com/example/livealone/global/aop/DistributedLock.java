@@ -16,4 +16,6 @@ public @interface DistributedLock {
 
     int waitTime() default 10;
     int leaseTime() default 60;
+
+    LockType type() default LockType.DEFAULT;
 }
@@ -2,12 +2,17 @@ package com.example.livealone.global.aop;
 
 import com.example.livealone.global.config.RedissonConfig;
 import com.example.livealone.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RFencedLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.MessageSource;
@@ -16,7 +21,15 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 서버 내부 키별 락(LocalLockRegistry)을 먼저 잡고 Redis 락을 잡습니다. 대기 시간은 두 단계를 합쳐 waitTime 을 넘지 않습니다.
+ * 서버 내부 락은 Redis 락 획득까지만 잡고, 메서드 실행 중에는 Redis 락만 유지합니다.
+ * 키 prefix 별로 대기/점유 시간과 경합/타임아웃 횟수를 distributed.lock.* 메트릭으로 기록합니다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
@@ -28,37 +41,136 @@ public class DistributedLockAop {
     private final RedissonClient redissonClient;
     private final AopForTransaction aopForTransaction;
     private final MessageSource messageSource;
+    private final LocalLockRegistry localLockRegistry;
+    private final MeterRegistry meterRegistry;
 
+    private final Map<Method, LockMetadata> lockMetadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(com.example.livealone.global.aop.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable{
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        LockMetadata lockMetadata = lockMetadataCache.computeIfAbsent(signature.getMethod(),
+                method -> LockMetadata.of(method, signature.getParameterNames(), meterRegistry));
+        DistributedLock distributedLock = lockMetadata.getDistributedLock();
 
-        String key = REDISSON_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
-        RLock rLock = redissonClient.getLock(key);
+        String key = REDISSON_LOCK_PREFIX + lockMetadata.getKeyResolver().resolve(joinPoint.getArgs());
+        LocalLockRegistry.LocalLock localLock = localLockRegistry.retain(key, distributedLock.type() == LockType.FAIR);
+
+        long startTime = System.nanoTime();
+        long waitTime = distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+
+        // 락이 중첩되면 바깥 락의 토큰을 되돌려 놓습니다.
+        Long outerToken = FencingTokenHolder.get();
+        RLock rLock;
 
         try {
-            boolean isLocked = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
-            if(isLocked){
-                try{
-                    return aopForTransaction.proceed(joinPoint);
-                }finally {
-                    rLock.unlock();
+            if (!localLock.tryLock()) {
+                lockMetadata.getContention().increment();
+                if (!localLock.tryLock(waitTime, TimeUnit.NANOSECONDS)) {
+                    throw lockTimeout(lockMetadata);
+                }
+            }
+
+            try {
+                long remainTime = Math.max(waitTime - (System.nanoTime() - startTime), 0);
+                rLock = getRedisLock(distributedLock.type(), key);
+                if (!tryRedisLock(rLock, distributedLock, remainTime)) {
+                    throw lockTimeout(lockMetadata);
                 }
+            } finally {
+                localLock.unlock();
+            }
+        } finally {
+            localLockRegistry.release(key, localLock);
+        }
+
+        long lockedTime = System.nanoTime();
+        lockMetadata.getWaitTimer().record(lockedTime - startTime, TimeUnit.NANOSECONDS);
+
+        try{
+            return aopForTransaction.proceed(joinPoint);
+        }finally {
+            FencingTokenHolder.restore(outerToken);
+            lockMetadata.getHoldTimer().record(System.nanoTime() - lockedTime, TimeUnit.NANOSECONDS);
+            rLock.unlock();
+        }
+
+    }
+
+    private RLock getRedisLock(LockType type, String key) {
+        return switch (type) {
+            case FAIR -> redissonClient.getFairLock(key);
+            case FENCED -> redissonClient.getFencedLock(key);
+            default -> redissonClient.getLock(key);
+        };
+    }
+
+    private boolean tryRedisLock(RLock rLock, DistributedLock distributedLock, long waitTime) throws InterruptedException {
+        long leaseTime = distributedLock.timeUnit().toNanos(distributedLock.leaseTime());
+
+        if (rLock instanceof RFencedLock fencedLock) {
+            Long token = fencedLock.tryLockAndGetToken(waitTime, leaseTime, TimeUnit.NANOSECONDS);
+            if (token == null) {
+                return false;
             }
-        } catch (InterruptedException e) {
-            throw new InterruptedException();
+
+            FencingTokenHolder.set(token);
+            return true;
         }
 
-        throw new CustomException(messageSource.getMessage(
+        return rLock.tryLock(waitTime, leaseTime, TimeUnit.NANOSECONDS);
+    }
+
+    private CustomException lockTimeout(LockMetadata lockMetadata) {
+        lockMetadata.getTimeout().increment();
+
+        return new CustomException(messageSource.getMessage(
                 "can.not.get.lock.key",
                 null,
                 CustomException.DEFAULT_ERROR_MESSAGE,
                 Locale.getDefault()
         ), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * 메서드별 어노테이션, 키 계산기, 메트릭. 첫 호출 때 한 번만 만듭니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class LockMetadata {
+
+        private final DistributedLock distributedLock;
+        private final CustomSpringELParser.KeyResolver keyResolver;
+        private final Timer waitTimer;
+        private final Timer holdTimer;
+        private final Counter contention;
+        private final Counter timeout;
 
+        private static LockMetadata of(Method method, String[] parameterNames, MeterRegistry meterRegistry) {
+            DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+            String prefix = keyPrefix(distributedLock.key());
+
+            return new LockMetadata(
+                    distributedLock,
+                    CustomSpringELParser.getKeyResolver(parameterNames, distributedLock.key()),
+                    Timer.builder("distributed.lock.wait").tag("prefix", prefix).register(meterRegistry),
+                    Timer.builder("distributed.lock.hold").tag("prefix", prefix).register(meterRegistry),
+                    Counter.builder("distributed.lock.contention").tag("prefix", prefix).register(meterRegistry),
+                    Counter.builder("distributed.lock.timeout").tag("prefix", prefix).register(meterRegistry)
+            );
+        }
+
+        /**
+         * "'checkStock-' + #productId" -> "checkStock"
+         */
+        private static String keyPrefix(String key) {
+            String prefix = key.startsWith("'") ? key.substring(1) : key;
+            int end = 0;
+            while (end < prefix.length() && Character.isLetterOrDigit(prefix.charAt(end))) {
+                end++;
+            }
+
+            return end > 0 ? prefix.substring(0, end) : "unknown";
+        }
     }
 }
-
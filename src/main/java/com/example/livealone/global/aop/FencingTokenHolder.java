@@ -0,0 +1,33 @@
+package com.example.livealone.global.aop;
+
+/**
+ * LockType.FENCED 로 잡은 락의 토큰을 락이 유지되는 동안 현재 스레드에 보관합니다.
+ * 저장소에 쓸 때 토큰을 같이 비교하면 리스 만료 후 늦게 도착한 쓰기를 막을 수 있습니다.
+ */
+public final class FencingTokenHolder {
+
+    private static final ThreadLocal<Long> TOKEN = new ThreadLocal<>();
+
+    private FencingTokenHolder() {
+    }
+
+    public static Long get() {
+        return TOKEN.get();
+    }
+
+    static void set(Long token) {
+        TOKEN.set(token);
+    }
+
+    /**
+     * 락을 풀 때 이전(바깥 락) 토큰으로 되돌립니다. 바깥 락이 없으면 비웁니다.
+     * @param token
+     */
+    static void restore(Long token) {
+        if (token == null) {
+            TOKEN.remove();
+        } else {
+            TOKEN.set(token);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.livealone.global.aop;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 락 앞단의 서버 내부 락
+ *
+ * 같은 서버의 스레드는 키별 락에서 먼저 줄을 서고, 각 키마다 한 스레드만 Redis 락을 시도합니다.
+ * 락은 키마다 참조 수를 세어 두고, 마지막 사용자가 반납하면 제거하므로 사용 중인 키 수만큼만 메모리를 씁니다.
+ */
+@Component
+public class LocalLockRegistry {
+
+    private final ConcurrentHashMap<String, LocalLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 키의 락을 참조합니다. 사용이 끝나면 반드시 release 를 호출해야 합니다.
+     * @param key
+     * @param fair 처음 만들어질 때의 공정성
+     * @return
+     */
+    public LocalLock retain(String key, boolean fair) {
+        return locks.compute(key, (k, lock) -> {
+            LocalLock retained = lock != null ? lock : new LocalLock(fair);
+            retained.references++;
+            return retained;
+        });
+    }
+
+    public void release(String key, LocalLock lock) {
+        locks.computeIfPresent(key, (k, current) -> {
+            if (current != lock) {
+                return current;
+            }
+            return --current.references == 0 ? null : current;
+        });
+    }
+
+    /**
+     * 참조 수는 ConcurrentHashMap.compute 안에서만 바꿉니다.
+     */
+    public static class LocalLock {
+
+        private final ReentrantLock lock;
+        private int references;
+
+        private LocalLock(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+
+        public boolean tryLock() {
+            return lock.tryLock();
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return lock.tryLock(time, unit);
+        }
+
+        public void unlock() {
+            lock.unlock();
+        }
+    }
+}
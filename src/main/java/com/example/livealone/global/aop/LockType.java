@@ -0,0 +1,22 @@
+package com.example.livealone.global.aop;
+
+/**
+ * DistributedLock 의 Redis 락 종류
+ */
+public enum LockType {
+
+    /**
+     * 일반 Redisson 락
+     */
+    DEFAULT,
+
+    /**
+     * 요청 순서대로 획득하는 공정 락
+     */
+    FAIR,
+
+    /**
+     * 획득할 때마다 증가하는 토큰을 발급하는 락. 토큰은 FencingTokenHolder 로 조회합니다.
+     */
+    FENCED
+}
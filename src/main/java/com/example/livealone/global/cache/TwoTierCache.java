@@ -0,0 +1,376 @@
+package com.example.livealone.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLongAsync;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * 로컬(Caffeine) L1 + Redis(Redisson bucket) L2 캐시
+ *
+ * L1 미스는 같은 키에 대해 한 스레드만 L2/원본을 조회하고 나머지는 그 결과를 기다립니다.
+ * L2 미스는 Redisson 락으로 클러스터 전체에서 한 요청만 원본을 조회합니다.
+ * put/evict 시 Redis pub/sub으로 키를 발행해서 다른 서버의 L1도 비웁니다.
+ *
+ * freshTtl 을 지정하면 stale-while-revalidate 로 동작합니다.
+ * 값은 remoteTtl 동안 남아 있고, freshTtl 이 지나면 기존 값을 반환하면서 한 요청만 비동기로 다시 조회합니다.
+ * 갱신은 캐시마다 크기가 정해진 전용 스레드 풀(refreshThreads, refreshQueueCapacity)에서 실행하고, 대기열이 차면 건너뜁니다.
+ *
+ * negativeTtl 을 지정하면 loader 가 null(값 없음)을 반환한 결과도 그 시간 동안 캐시합니다.
+ * put/evict 는 키의 세대(:gen)를 올리고, 원본 조회 결과는 조회 시작 시점의 세대가 그대로일 때만 L2에 저장합니다.
+ * 그래서 evict 이전에 시작된 조회가 evict 이후에 오래된 값을 다시 채우지 않습니다.
+ *
+ * L1 값은 모든 요청 스레드가 같은 인스턴스를 공유하므로 V 는 엔티티가 아닌 불변 DTO 여야 합니다.
+ * 값을 바꿀 때는 새 인스턴스를 put 합니다.
+ * @param <V>
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String INVALIDATION_TOPIC_PREFIX = "cache-invalidation:";
+    private static final String LOAD_LOCK_PREFIX = "LOCK:cache-load:";
+    private static final String FRESH_SUFFIX = ":fresh";
+    private static final String REFRESHING_SUFFIX = ":refreshing";
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    /**
+     * loader 가 값 없음(null)을 반환했을 때 L1/L2 에 대신 저장하는 표시
+     */
+    private static final String ABSENT = "TwoTierCache:absent";
+
+    private static final String STORE_IF_CURRENT_SCRIPT =
+            "if (redis.call('get', KEYS[3]) or '0') ~= ARGV[4] then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "if ARGV[3] ~= '0' then redis.call('set', KEYS[2], '1', 'PX', ARGV[3]) "
+                    + "else redis.call('del', KEYS[2]) end "
+                    + "return 1";
+
+    private final String name;
+    private final RedissonClient redissonClient;
+    private final Codec codec;
+    private final Cache<String, Object> localCache;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RTopic invalidationTopic;
+    private final ExecutorService refreshExecutor;
+    private final long remoteTtlMillis;
+    private final long freshTtlMillis;
+    private final long negativeTtlMillis;
+    private final long loadLockWaitMillis;
+    private final long loadLockLeaseMillis;
+
+    @Builder
+    private TwoTierCache(String name, RedissonClient redissonClient, long localMaximumSize, long localTtlMillis,
+        long remoteTtlMillis, long freshTtlMillis, long negativeTtlMillis, long loadLockWaitMillis,
+        long loadLockLeaseMillis, int refreshThreads, int refreshQueueCapacity) {
+        this.name = name;
+        this.redissonClient = redissonClient;
+        this.codec = redissonClient.getConfig().getCodec();
+        this.remoteTtlMillis = remoteTtlMillis;
+        this.freshTtlMillis = freshTtlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.loadLockWaitMillis = loadLockWaitMillis;
+        this.loadLockLeaseMillis = loadLockLeaseMillis;
+        this.refreshExecutor = isStaleWhileRevalidate()
+                ? newRefreshExecutor(name, Math.max(refreshThreads, 1), Math.max(refreshQueueCapacity, 1))
+                : null;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC_PREFIX + name, StringCodec.INSTANCE);
+        this.invalidationTopic.addListener(String.class, (channel, key) -> localCache.invalidate(key));
+    }
+
+    /**
+     * L1 -> L2 -> loader 순서로 조회합니다. loader 결과는 L2와 L1에 저장됩니다.
+     * L2 조회와 락 대기는 Caffeine 의 compute 밖에서 하므로 다른 키의 L1 조회를 막지 않습니다.
+     * @param key Redis 키
+     * @param loader 원본 조회. 값이 없으면 null 을 반환합니다. (negativeTtl 이 0이면 값 없음은 캐시하지 않습니다)
+     * @return 캐시된 값, 값이 없으면 null
+     */
+    public V get(String key, Supplier<V> loader) {
+        Object cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return unwrap(cached);
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return unwrap(join(running));
+        }
+
+        try {
+            Object value = loadRemote(key, loader);
+            if (value != ABSENT || isNegativeCaching()) {
+                localCache.put(key, value);
+            }
+            future.complete(value);
+            return unwrap(value);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 값을 L2에 저장하고 모든 서버의 L1을 무효화합니다. 진행 중인 원본 조회 결과는 저장되지 않습니다.
+     * @param key
+     * @param value
+     */
+    public void put(String key, V value) {
+        RBatch batch = redissonClient.createBatch();
+        nextGeneration(batch, key);
+        batch.getBucket(key).setAsync(value, remoteTtlMillis, TimeUnit.MILLISECONDS);
+        if (isStaleWhileRevalidate()) {
+            batch.getBucket(key + FRESH_SUFFIX, StringCodec.INSTANCE).setAsync("1", freshTtlMillis, TimeUnit.MILLISECONDS);
+        }
+        batch.execute();
+
+        invalidateLocal(key);
+    }
+
+    /**
+     * L2에서 삭제하고 모든 서버의 L1을 무효화합니다. 진행 중인 원본 조회 결과는 저장되지 않습니다.
+     * @param key
+     */
+    public void evict(String key) {
+        RBatch batch = redissonClient.createBatch();
+        nextGeneration(batch, key);
+        batch.getKeys().deleteAsync(key, key + FRESH_SUFFIX);
+        batch.execute();
+
+        invalidateLocal(key);
+    }
+
+    /**
+     * 갱신 스레드 풀을 종료합니다. (스프링 빈 종료 시 호출)
+     */
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor(String name, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private boolean isStaleWhileRevalidate() {
+        return freshTtlMillis > 0;
+    }
+
+    private boolean isNegativeCaching() {
+        return negativeTtlMillis > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unwrap(Object value) {
+        return value == ABSENT || ABSENT.equals(value) ? null : (V) value;
+    }
+
+    private Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void invalidateLocal(String key) {
+        localCache.invalidate(key);
+        try {
+            invalidationTopic.publish(key);
+        } catch (Exception e) {
+            log.error("{} 캐시 무효화 발행 실패 : {}", name, e.getMessage());
+        }
+    }
+
+    private Object loadRemote(String key, Supplier<V> loader) {
+        if (!isStaleWhileRevalidate()) {
+            Object value = redissonClient.getBucket(key).get();
+            return value != null ? value : loadWithLock(key, loader);
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        batch.getBucket(key).getAsync();
+        batch.getBucket(key + FRESH_SUFFIX, StringCodec.INSTANCE).isExistsAsync();
+        List<?> responses = batch.execute().getResponses();
+
+        Object value = responses.get(0);
+        if (value == null) {
+            return loadWithLock(key, loader);
+        }
+
+        if (!ABSENT.equals(value) && !Boolean.TRUE.equals(responses.get(1))) {
+            refreshAsync(key, loader);
+        }
+
+        return value;
+    }
+
+    /**
+     * 락을 잡은 한 요청만 원본을 조회하고, 나머지는 락을 기다린 뒤 L2에 채워진 값을 읽습니다.
+     * 대기 시간 안에 락을 얻지 못하면 직접 조회합니다.
+     */
+    private Object loadWithLock(String key, Supplier<V> loader) {
+        RLock lock = redissonClient.getLock(LOAD_LOCK_PREFIX + key);
+        boolean isLocked = false;
+
+        try {
+            isLocked = lock.tryLock(loadLockWaitMillis, loadLockLeaseMillis, TimeUnit.MILLISECONDS);
+
+            long generation = generation(key);
+            Object value = redissonClient.getBucket(key).get();
+            if (value != null) {
+                return value;
+            }
+
+            value = load(loader);
+            storeIfCurrent(key, value, generation);
+
+            return value;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return load(loader);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 오래된 값을 반환하는 동안 갱신 표시를 먼저 남긴 한 요청만 백그라운드에서 값을 갱신합니다.
+     * 원본에 값이 없어졌으면 (방송 종료 등) 값 없음으로 덮어써서 오래된 값이 remoteTtl 동안 남지 않도록 합니다.
+     */
+    private void refreshAsync(String key, Supplier<V> loader) {
+        RBucket<String> refreshing = redissonClient.getBucket(key + REFRESHING_SUFFIX, StringCodec.INSTANCE);
+        if (!refreshing.setIfAbsent("1", Duration.ofMillis(loadLockLeaseMillis))) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    long generation = generation(key);
+                    Object value = load(loader);
+                    if (value == ABSENT && !isNegativeCaching()) {
+                        evict(key);
+                        return;
+                    }
+                    if (storeIfCurrent(key, value, generation)) {
+                        invalidateLocal(key);
+                    }
+                } catch (Exception e) {
+                    log.warn("{} 캐시 갱신 실패 : {}", name, e.getMessage());
+                } finally {
+                    refreshing.delete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("{} 캐시 갱신 대기열이 가득 참 : {}", name, key);
+            refreshing.delete();
+        }
+    }
+
+    private Object load(Supplier<V> loader) {
+        V value = loader.get();
+        return value != null ? value : ABSENT;
+    }
+
+    private long generation(String key) {
+        return redissonClient.getAtomicLong(key + GENERATION_SUFFIX).get();
+    }
+
+    private void nextGeneration(RBatch batch, String key) {
+        RAtomicLongAsync generation = batch.getAtomicLong(key + GENERATION_SUFFIX);
+        generation.incrementAndGetAsync();
+        generation.expireAsync(Duration.ofMillis(remoteTtlMillis));
+    }
+
+    /**
+     * 조회 시작 이후 put/evict 가 없었을 때만 L2에 저장합니다.
+     * @return 저장 여부
+     */
+    private boolean storeIfCurrent(String key, Object value, long generation) {
+        if (value == ABSENT && !isNegativeCaching()) {
+            return false;
+        }
+
+        boolean isAbsent = value == ABSENT;
+        long ttl = isAbsent ? negativeTtlMillis : remoteTtlMillis;
+        long freshTtl = isAbsent ? 0 : freshTtlMillis;
+
+        Long stored = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                STORE_IF_CURRENT_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Arrays.asList(key, key + FRESH_SUFFIX, key + GENERATION_SUFFIX),
+                encode(value),
+                ascii(ttl),
+                ascii(freshTtl),
+                ascii(generation)
+        );
+
+        return stored != null && stored == 1L;
+    }
+
+    private byte[] encode(Object value) {
+        ByteBuf buf = null;
+        try {
+            buf = codec.getValueEncoder().encode(value);
+            return ByteBufUtil.getBytes(buf);
+        } catch (IOException e) {
+            throw new IllegalStateException(name + " 캐시 값 직렬화 실패", e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    private static byte[] ascii(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.livealone.global.config;
+
+import com.example.livealone.broadcast.dto.BroadcastResponseDto;
+import com.example.livealone.global.cache.TwoTierCache;
+import com.example.livealone.product.dto.CachedProductDto;
+import java.util.concurrent.TimeUnit;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    private static final long REMOTE_TTL = TimeUnit.HOURS.toMillis(1);
+
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl:1000}")
+    private long localTtl;
+
+    @Value("${cache.load-lock.wait-time:3000}")
+    private long loadLockWaitTime;
+
+    @Value("${cache.load-lock.lease-time:5000}")
+    private long loadLockLeaseTime;
+
+    @Value("${cache.broadcast.fresh-ttl:30000}")
+    private long broadcastFreshTtl;
+
+    @Value("${cache.broadcast.negative-ttl:1000}")
+    private long broadcastNegativeTtl;
+
+    @Value("${cache.refresh.threads:2}")
+    private int refreshThreads;
+
+    @Value("${cache.refresh.queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    @Bean
+    public TwoTierCache<CachedProductDto> productCache(RedissonClient redissonClient) {
+        return TwoTierCache.<CachedProductDto>builder()
+                .name("product")
+                .redissonClient(redissonClient)
+                .localMaximumSize(localMaximumSize)
+                .localTtlMillis(localTtl)
+                .remoteTtlMillis(REMOTE_TTL)
+                .loadLockWaitMillis(loadLockWaitTime)
+                .loadLockLeaseMillis(loadLockLeaseTime)
+                .build();
+    }
+
+    /**
+     * 방송 정보는 fresh-ttl 이 지나면 기존 값을 반환하면서 백그라운드에서 다시 조회합니다.
+     * 진행 중인 방송이 없다는 결과도 negative-ttl 동안 캐시해서 요청마다 락/DB 조회를 하지 않도록 합니다.
+     */
+    @Bean
+    public TwoTierCache<BroadcastResponseDto> onAirBroadcastCache(RedissonClient redissonClient) {
+        return TwoTierCache.<BroadcastResponseDto>builder()
+                .name("on-air-broadcast")
+                .redissonClient(redissonClient)
+                .localMaximumSize(localMaximumSize)
+                .localTtlMillis(localTtl)
+                .remoteTtlMillis(REMOTE_TTL)
+                .freshTtlMillis(broadcastFreshTtl)
+                .negativeTtlMillis(broadcastNegativeTtl)
+                .refreshThreads(refreshThreads)
+                .refreshQueueCapacity(refreshQueueCapacity)
+                .loadLockWaitMillis(loadLockWaitTime)
+                .loadLockLeaseMillis(loadLockLeaseTime)
+                .build();
+    }
+}
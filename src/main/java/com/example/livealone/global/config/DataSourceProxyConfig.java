@@ -0,0 +1,36 @@
+package com.example.livealone.global.config;
+
+import com.example.livealone.global.sql.SlowQueryListener;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 모든 SQL 실행 시간을 SlowQueryListener 로 넘깁니다.
+ * Hibernate show_sql 대신 이 경로로 느린 쿼리만 로그를 남깁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.proxy.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SlowQueryListener> slowQueryListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(slowQueryListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
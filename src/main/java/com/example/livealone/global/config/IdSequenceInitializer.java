@@ -0,0 +1,49 @@
+package com.example.livealone.global.config;
+
+import com.example.livealone.global.entity.IdSequence;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 로 쌓인 기존 행과 겹치지 않도록, 시작 시 ID 생성 테이블의 값을 각 테이블의 MAX(id) 뒤로 올립니다.
+ * EntityManagerFactory(스키마 갱신) 이후, Kafka 리스너 등이 시작되기 전에 실행됩니다.
+ * 값을 올리기만 하므로 여러 서버가 동시에 시작해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 세그먼트 이름은 엔티티 테이블 이름과 같습니다.
+    private static final List<String> SEGMENTS = List.of("orders", "payments", "products", "broadcasts", "reservations");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void init() {
+        for (String segment : SEGMENTS) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + segment, Long.class);
+            // pooled optimizer 는 저장된 값 바로 아래 구간부터 쓸 수 있으므로 한 구간만큼 여유를 둡니다.
+            long floor = (maxId == null ? 0L : maxId) + IdSequence.ALLOCATION_SIZE + 1;
+
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + IdSequence.TABLE + " SET " + IdSequence.VALUE_COLUMN + " = GREATEST("
+                            + IdSequence.VALUE_COLUMN + ", ?) WHERE " + IdSequence.SEGMENT_COLUMN + " = ?",
+                    floor, segment);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                        "INSERT IGNORE INTO " + IdSequence.TABLE + " (" + IdSequence.SEGMENT_COLUMN + ", "
+                                + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)",
+                        segment, floor);
+            }
+
+            log.debug("ID 생성 테이블 {} 시작값 >= {}", segment, floor);
+        }
+    }
+}
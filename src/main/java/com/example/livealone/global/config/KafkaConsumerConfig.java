@@ -12,6 +12,7 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * 카프카 Consumer설정에 필요!
@@ -29,6 +30,15 @@ public class KafkaConsumerConfig {
     @Value("${kafka.chat-group}")
     private String chatGroup;
 
+    @Value("${kafka.chat.concurrency:3}")
+    private int chatConcurrency;
+
+    @Value("${kafka.chat.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${kafka.order.concurrency:3}")
+    private int orderConcurrency;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -49,4 +59,42 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
+
+    /**
+     * 채팅 리스너. poll 한 번에 받은 레코드를 묶어서 처리하고, 파티션 수 안에서 리스너 스레드를 늘립니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> chatListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(chatConcurrency);
+
+        Properties chatConsumerProperties = new Properties();
+        chatConsumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(chatConsumerProperties);
+        return factory;
+    }
+
+    /**
+     * 주문 대기열 리스너. 레코드 단위로 처리하며, 상품 ID 키로 나뉜 파티션마다 한 스레드가 순서대로 처리합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> orderIntakeListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(orderConcurrency);
+        return factory;
+    }
+
+    /**
+     * 주문/결제 이벤트(order-events) 리스너. 방송 ID 키로 나뉜 파티션마다 한 스레드가 순서대로 처리합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> orderEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(orderConcurrency);
+        return factory;
+    }
 }
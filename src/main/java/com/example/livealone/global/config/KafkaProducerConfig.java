@@ -1,10 +1,14 @@
 package com.example.livealone.global.config;
 
+import com.example.livealone.order.service.OrderIntakeService;
+import com.example.livealone.outbox.service.OutboxRelay;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -18,6 +22,21 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.producer.bootstrap-servers}")
     private String bootstrapServer;
 
+    @Value("${kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.chat.partitions:6}")
+    private int chatPartitions;
+
+    @Value("${kafka.order.partitions:6}")
+    private int orderPartitions;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
 
@@ -28,6 +47,11 @@ public class KafkaProducerConfig {
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
 
+        //채팅처럼 작은 메시지가 몰릴 때 묶어서 전송하기 위한 설정들
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+
         return new DefaultKafkaProducerFactory<>(config);
     }
 
@@ -35,4 +59,37 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, String> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * 채팅 토픽은 보낸 세션 ID를 키로 파티셔닝되므로, 파티션 수만큼 컨슈머를 늘릴 수 있습니다.
+     */
+    @Bean
+    public NewTopic chatTopic() {
+        return TopicBuilder.name("chat")
+                .partitions(chatPartitions)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 주문 대기열 토픽은 상품 ID를 키로 파티셔닝되므로, 같은 상품의 주문은 들어온 순서대로 처리됩니다.
+     */
+    @Bean
+    public NewTopic orderIntentTopic() {
+        return TopicBuilder.name(OrderIntakeService.ORDER_INTENT_TOPIC)
+                .partitions(orderPartitions)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 주문/결제 이벤트 토픽은 방송 ID를 키로 파티셔닝되므로, 같은 방송의 이벤트는 발행된 순서대로 소비됩니다.
+     */
+    @Bean
+    public NewTopic orderEventTopic() {
+        return TopicBuilder.name(OutboxRelay.ORDER_EVENT_TOPIC)
+                .partitions(orderPartitions)
+                .replicas(1)
+                .build();
+    }
 }
@@ -1,21 +1,90 @@
 package com.example.livealone.global.config;
 
+import com.example.livealone.global.socket.StompAuthenticationInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * websocket.broker.mode 가 relay 이면 외부 STOMP 브로커(ActiveMQ Artemis 등)로 /queue 메시지를 중계하고,
+ * simple 이면 기존처럼 서버 내장 브로커를 사용합니다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String RELAY_MODE = "relay";
+
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channel.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.session.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    @Value("${websocket.session.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.session.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub"); // 메시지 발행
-        registry.enableSimpleBroker("/queue");
+
+        if (RELAY_MODE.equals(brokerMode)) {
+            registry.enableStompBrokerRelay("/queue", "/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 다른 서버에 연결된 유저에게도 /user 메시지가 전달되도록 세션 정보를 공유합니다.
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/user-registry");
+        } else {
+            registry.enableSimpleBroker("/queue");
+        }
+
         registry.setUserDestinationPrefix("/user"); // 각 세션 전용
     }
 
@@ -23,4 +92,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOrigins("*");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * 세션별 전송 시간/버퍼 한도를 넘으면 해당 세션만 끊어서, 느린 클라이언트가 전체 전송을 막지 않도록 합니다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
 }
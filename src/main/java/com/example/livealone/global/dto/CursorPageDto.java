@@ -0,0 +1,36 @@
+package com.example.livealone.global.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서(keyset) 기반 페이지
+ * 정렬 키 내림차순으로 조회하고, 다음 페이지는 nextCursor 항목 뒤부터 조회합니다. (OFFSET 없이 깊은 페이지도 같은 비용)
+ * pooled ID 를 쓰는 엔티티는 (createdAt, id) 로 정렬하고 nextCursor 항목의 createdAt 을 찾아 이어서 조회합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageDto<T> {
+
+    private final List<T> contents;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * @param fetched size + 1 개까지 조회한 목록
+     * @param size 페이지 크기
+     * @param cursorOf 항목의 커서(id)
+     * @return
+     */
+    public static <T> CursorPageDto<T> of(List<T> fetched, int size, Function<T, Long> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> contents = hasNext ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+        Long nextCursor = hasNext ? cursorOf.apply(contents.get(contents.size() - 1)) : null;
+
+        return new CursorPageDto<>(contents, nextCursor, hasNext);
+    }
+}
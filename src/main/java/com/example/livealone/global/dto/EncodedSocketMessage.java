@@ -0,0 +1,46 @@
+package com.example.livealone.global.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 한 번만 직렬화된 소켓 메시지
+ * 구독자 수와 상관없이 같은 byte payload를 그대로 STOMP 프레임으로 보냅니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EncodedSocketMessage {
+
+    private final byte[] payload;
+
+    public static EncodedSocketMessage encode(ObjectMapper objectMapper, SocketMessageDto socketMessageDto)
+        throws JsonProcessingException {
+        return new EncodedSocketMessage(objectMapper.writeValueAsBytes(socketMessageDto));
+    }
+
+    /**
+     * 이미 SocketMessageDto 형식으로 직렬화된 JSON(Kafka 레코드 등)을 그대로 감쌉니다.
+     * @param json
+     * @return
+     */
+    public static EncodedSocketMessage wrap(String json) {
+        return new EncodedSocketMessage(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Message<byte[]> toMessage() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.livealone.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정규화된 SQL 별 실행 통계 (actuator slowqueries)
+ * 백분위 값은 고정 구간 히스토그램의 구간 상한(ms)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SlowQueryDto {
+
+    private String sql;
+    private long count;
+    private long maxMillis;
+    private double avgMillis;
+    private long p50Millis;
+    private long p95Millis;
+    private long p99Millis;
+}
@@ -0,0 +1,18 @@
+package com.example.livealone.global.entity;
+
+/**
+ * 쓰기가 많은 엔티티가 공유하는 ID 생성 테이블 설정
+ *
+ * IDENTITY 는 insert 마다 바로 실행해야 해서 Hibernate JDBC batch 가 꺼지므로,
+ * 테이블 generator 에서 ALLOCATION_SIZE 개씩 ID 구간을 받아(pooled optimizer) 메모리에서 나눠줍니다.
+ */
+public final class IdSequence {
+
+	public static final String TABLE = "id_sequences";
+	public static final String SEGMENT_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	private IdSequence() {
+	}
+}
@@ -21,4 +21,6 @@ public enum SocketMessageType {
     RESPONSE_VIEWERCOUNT,
     INVALID_TOKEN,
     ANONYMOUS_USER,
+    RESPONSE_ORDER,
+    ORDER_FAILED,
 }
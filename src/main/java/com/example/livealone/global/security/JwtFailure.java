@@ -0,0 +1,16 @@
+package com.example.livealone.global.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtFailure {
+	INVALID_SIGNATURE("Invalid JWT signature", "Invalid JWT signature, 유효하지 않는 JWT 서명 입니다."),
+	EXPIRED("Expired JWT Token", "Expired JWT token, 만료된 JWT token 입니다."),
+	UNSUPPORTED("Unsupported JWT Token", "Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다."),
+	EMPTY_CLAIMS("JWT Claims is empty", "JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+
+	private final String message;
+	private final String description;
+}
@@ -1,9 +1,16 @@
 package com.example.livealone.global.security;
 
 import com.example.livealone.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +19,8 @@ import org.springframework.util.StringUtils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -38,13 +47,25 @@ public class JwtService {
 	@Value("${jwt.access-expire-time}")
 	private Long EXPIRE_TIME;
 
+	@Value("${jwt.cache.maximum-size:10000}")
+	private long cacheMaximumSize;
+
 	private Key key;
 
+	private JwtParser jwtParser;
+
+	private Cache<String, Claims> verifiedTokenCache;
+
 	@PostConstruct
 	public void init() {
 
 		byte[] bytes = Base64.getDecoder().decode(SECRET_KEY);
 		key = Keys.hmacShaKeyFor(bytes);
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+		verifiedTokenCache = Caffeine.newBuilder()
+			.maximumSize(cacheMaximumSize)
+			.expireAfter(new TokenExpiry())
+			.build();
 
 	}
 
@@ -66,42 +87,55 @@ public class JwtService {
 
 	}
 
-	public boolean isValidToken(String token, HttpServletRequest request) {
+	/**
+	 * 토큰을 한 번만 파싱해서 검증과 claims 추출을 같이 합니다.
+	 * 검증된 토큰은 만료 시간까지 토큰 해시를 키로 캐시합니다.
+	 * @param token
+	 * @return 검증 결과
+	 */
+	public JwtVerification verify(String token) {
+
+		String tokenHash = hash(token);
+		Claims cachedClaims = verifiedTokenCache.getIfPresent(tokenHash);
+		if (cachedClaims != null) {
+			return JwtVerification.valid(cachedClaims);
+		}
 
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			Claims claims = jwtParser.parseClaimsJws(token).getBody();
+			verifiedTokenCache.put(tokenHash, claims);
+			return JwtVerification.valid(claims);
 		} catch (SecurityException | MalformedJwtException | io.jsonwebtoken.security.SignatureException e) {
-			request.setAttribute("error", "Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+			return JwtVerification.invalid(JwtFailure.INVALID_SIGNATURE);
 		} catch (ExpiredJwtException e) {
-			request.setAttribute("error", "Expired JWT token, 만료된 JWT token 입니다.");
+			return JwtVerification.invalid(JwtFailure.EXPIRED);
 		} catch (UnsupportedJwtException e) {
-			request.setAttribute("error", "Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+			return JwtVerification.invalid(JwtFailure.UNSUPPORTED);
 		} catch (IllegalArgumentException e) {
-			request.setAttribute("error", "JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+			return JwtVerification.invalid(JwtFailure.EMPTY_CLAIMS);
+		}
+
+	}
+
+	public boolean isValidToken(String token, HttpServletRequest request) {
+
+		JwtVerification verification = verify(token);
+		if (!verification.isValid()) {
+			request.setAttribute("error", verification.getFailure().getDescription());
 		}
 
-		return false;
+		return verification.isValid();
 
 	}
 
 	public String isValidToken(String token){
-		try{
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return "Valid";
-		}catch (SecurityException | MalformedJwtException | io.jsonwebtoken.security.SignatureException e) {
-			log.debug("error :", "Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
-			return "Invalid JWT signature";
-		} catch (ExpiredJwtException e) {
-			log.debug("error :", "Expired JWT token, 만료된 JWT token 입니다.");
-			return "Expired JWT Token";
-		} catch (UnsupportedJwtException e) {
-			log.debug("error :", "Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
-			return "Unsupported JWT Token";
-		} catch (IllegalArgumentException e) {
-			log.debug("error :", "JWT claims is empty, 잘못된 JWT 토큰 입니다.");
-			return "JWT Claims is empty";
+		JwtVerification verification = verify(token);
+		if (!verification.isValid()) {
+			log.debug("error : {}", verification.getFailure().getDescription());
+			return verification.getFailure().getMessage();
 		}
+
+		return "Valid";
 	}
 
 	public String getToken(HttpServletRequest request) {
@@ -117,8 +151,51 @@ public class JwtService {
 
 	public Claims getClaims(String token) {
 
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		JwtVerification verification = verify(token);
+		if (!verification.isValid()) {
+			throw new JwtException(verification.getFailure().getMessage());
+		}
+
+		return verification.getClaims();
+
+	}
+
+	private String hash(String token) {
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+	}
+
+	/**
+	 * 캐시된 claims는 토큰의 exp 시점에 만료됩니다.
+	 */
+	private static class TokenExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			if (expiration == null) {
+				return 0;
+			}
+
+			long remainMillis = expiration.getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 
 }
@@ -0,0 +1,29 @@
+package com.example.livealone.global.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증 결과. 성공하면 claims를, 실패하면 실패 사유를 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtVerification {
+
+	private final Claims claims;
+	private final JwtFailure failure;
+
+	public static JwtVerification valid(Claims claims) {
+		return new JwtVerification(claims, null);
+	}
+
+	public static JwtVerification invalid(JwtFailure failure) {
+		return new JwtVerification(null, failure);
+	}
+
+	public boolean isValid() {
+		return failure == null;
+	}
+}
@@ -1,26 +1,130 @@
 package com.example.livealone.global.security;
 
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.example.livealone.global.exception.CustomException;
 import com.example.livealone.user.entity.User;
+import com.example.livealone.user.entity.UserRole;
 import com.example.livealone.user.repository.UserRepository;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * jwt.principal.source 값에 따라 인증 주체를 만듭니다.
+ * database : 요청마다 email로 User 조회 (기본값)
+ * claims : 토큰의 claims로 User를 만들어 DB 조회 없음. 권한 변경은 토큰 재발급 후 반영됩니다.
+ * cache : id로 조회한 User를 로컬 캐시에 보관. 정보 수정/관리자 등록 시 evictUser로 무효화합니다.
+ *         무효화는 커밋 이후에 Redis pub/sub으로 모든 서버에 전파됩니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+	private static final String SOURCE_CLAIMS = "claims";
+	private static final String SOURCE_CACHE = "cache";
+	private static final String INVALIDATION_TOPIC = "principal-cache-invalidation";
+
 	private final UserRepository userRepository;
 	private final MessageSource messageSource;
+	private final RedissonClient redissonClient;
+
+	@Value("${jwt.principal.source:database}")
+	private String principalSource;
+
+	@Value("${jwt.principal.cache.maximum-size:10000}")
+	private long cacheMaximumSize;
+
+	@Value("${jwt.principal.cache.expire-after-write:300}")
+	private long cacheExpireAfterWrite;
+
+	private Cache<Long, User> userCache;
+	private RTopic invalidationTopic;
+
+	@PostConstruct
+	public void init() {
+
+		userCache = Caffeine.newBuilder()
+			.maximumSize(cacheMaximumSize)
+			.expireAfterWrite(cacheExpireAfterWrite, TimeUnit.SECONDS)
+			.build();
+
+		invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC);
+		invalidationTopic.addListener(Long.class, (channel, userId) -> userCache.invalidate(userId));
+
+	}
+
+	/**
+	 * 검증된 토큰의 claims로 인증 주체를 만듭니다.
+	 * @param claims
+	 * @return UserDetails
+	 */
+	public UserDetails loadUserByClaims(Claims claims) {
+
+		Long userId = claims.get(JwtService.CLAIM_ID, Long.class);
+		if (userId == null) {
+			return loadUserByUsername(claims.getSubject());
+		}
+
+		if (SOURCE_CLAIMS.equals(principalSource)) {
+			String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+			User user = User.fromClaims(
+				userId,
+				claims.get(JwtService.CLAIM_USERNAME, String.class),
+				claims.get(JwtService.CLAIM_NICKNAME, String.class),
+				claims.getSubject(),
+				role == null ? UserRole.USER : UserRole.valueOf(role)
+			);
+			return new UserDetailsImpl(user);
+		}
+
+		if (SOURCE_CACHE.equals(principalSource)) {
+			return new UserDetailsImpl(userCache.get(userId, this::findUserById));
+		}
+
+		return loadUserByUsername(claims.getSubject());
+
+	}
+
+	/**
+	 * 모든 서버의 캐시에서 유저를 제거합니다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 제거해서, 커밋 전에 다시 조회된 값이 캐시에 남지 않도록 합니다.
+	 * @param userId
+	 */
+	public void evictUser(Long userId) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publishEviction(userId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publishEviction(userId);
+			}
+		});
+
+	}
 
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -37,4 +141,27 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
 	}
 
+	private void publishEviction(Long userId) {
+
+		userCache.invalidate(userId);
+		try {
+			invalidationTopic.publish(userId);
+		} catch (Exception e) {
+			log.error("인증 주체 캐시 무효화 발행 실패 userId : {}, {}", userId, e.getMessage());
+		}
+
+	}
+
+	private User findUserById(Long userId) {
+
+		return userRepository.findById(userId)
+			.orElseThrow(() -> new CustomException(messageSource.getMessage(
+				"user.not.found",
+				null,
+				CustomException.DEFAULT_ERROR_MESSAGE,
+				Locale.getDefault()
+			), HttpStatus.NOT_FOUND));
+
+	}
+
 }
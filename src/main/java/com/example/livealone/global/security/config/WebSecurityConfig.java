@@ -67,6 +67,7 @@ public class WebSecurityConfig {
 					.requestMatchers("/payment/**").permitAll()
 					.requestMatchers(HttpMethod.GET,"/ORDER-CHECK").permitAll()
 					.requestMatchers("/admin/**").hasRole("ADMIN")
+					.requestMatchers("/actuator/**").hasRole("ADMIN")
 					.requestMatchers( HttpMethod.GET,"/status").permitAll()
 					.requestMatchers("/login/**").permitAll()
 					.anyRequest().authenticated());
@@ -11,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.livealone.global.security.JwtService;
+import com.example.livealone.global.security.JwtVerification;
 import com.example.livealone.global.security.UserDetailsServiceImpl;
 
 import io.jsonwebtoken.Claims;
@@ -34,10 +35,12 @@ public class JwtAuthentication extends OncePerRequestFilter {
 		String token = jwtService.getToken(request);
 		log.debug("token : {}",token);
 		if(token != null) {
-			if(jwtService.isValidToken(token, request)) {
+			JwtVerification verification = jwtService.verify(token);
+			if(verification.isValid()) {
 				log.debug("validToken");
-				Claims claims = jwtService.getClaims(token);
-				setAuthentication(claims.getSubject());
+				setAuthentication(verification.getClaims());
+			} else {
+				request.setAttribute("error", verification.getFailure().getDescription());
 			}
 		}
 
@@ -45,9 +48,9 @@ public class JwtAuthentication extends OncePerRequestFilter {
 
 	}
 
-	private void setAuthentication(String email) {
+	private void setAuthentication(Claims claims) {
 
-		UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+		UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
 		Authentication authentication =
 			new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
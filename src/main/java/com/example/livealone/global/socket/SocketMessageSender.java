@@ -0,0 +1,45 @@
+package com.example.livealone.global.socket;
+
+import com.example.livealone.global.dto.EncodedSocketMessage;
+import com.example.livealone.global.dto.SocketMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 구독자 전체에게 보내는 소켓 메시지를 한 번만 직렬화해서 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SocketMessageSender {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void send(String destination, SocketMessageDto socketMessageDto) throws JsonProcessingException {
+        send(destination, EncodedSocketMessage.encode(objectMapper, socketMessageDto));
+    }
+
+    public void send(String destination, EncodedSocketMessage encodedSocketMessage) {
+        messagingTemplate.send(destination, encodedSocketMessage.toMessage());
+    }
+
+    /**
+     * 특정 유저의 세션(/user/{user}/...)에만 보냅니다.
+     * @param user STOMP 세션 Principal 이름 (유저 ID)
+     * @param destination
+     * @param socketMessageDto
+     * @throws JsonProcessingException
+     */
+    public void sendToUser(String user, String destination, SocketMessageDto socketMessageDto)
+        throws JsonProcessingException {
+        EncodedSocketMessage encodedSocketMessage = EncodedSocketMessage.encode(objectMapper, socketMessageDto);
+        messagingTemplate.convertAndSendToUser(user, destination, encodedSocketMessage.getPayload(),
+                Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.livealone.global.socket;
+
+import com.example.livealone.global.security.JwtService;
+import com.example.livealone.global.security.JwtVerification;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 의 Authorization 헤더가 유효하면 유저 ID를 세션 Principal 로 지정합니다.
+ * 서버에서 /user/{userId}/queue/reply 로 개인 메시지를 보낼 때 사용합니다. 토큰이 없으면 익명 세션으로 연결됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String token = accessor.getFirstNativeHeader(JwtService.HEADER);
+        if (token == null || !token.startsWith(TOKEN_PREFIX)) {
+            return message;
+        }
+
+        JwtVerification verification = jwtService.verify(token.substring(TOKEN_PREFIX.length()));
+        if (verification.isValid()) {
+            Object userId = verification.getClaims().get(JwtService.CLAIM_ID);
+            accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(userId), null, List.of()));
+        }
+
+        return message;
+    }
+}
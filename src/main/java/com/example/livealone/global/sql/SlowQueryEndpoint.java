@@ -0,0 +1,35 @@
+package com.example.livealone.global.sql;
+
+import com.example.livealone.global.dto.SlowQueryDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/slowqueries : 최대 실행 시간 기준 상위 top-n 개의 정규화 SQL (건수, 평균, 최대, p50/p95/p99)
+ * DELETE /actuator/slowqueries : 통계 초기화
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryListener slowQueryListener;
+
+    @Value("${sql.log.top-n:20}")
+    private int topN;
+
+    @ReadOperation
+    public List<SlowQueryDto> slowQueries() {
+        return slowQueryListener.getSlowestQueries(topN);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryListener.reset();
+    }
+}
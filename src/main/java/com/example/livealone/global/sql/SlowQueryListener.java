@@ -0,0 +1,217 @@
+package com.example.livealone.global.sql;
+
+import com.example.livealone.global.dto.SlowQueryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 SQL 실행 시간을 문장 종류별 히스토그램(db.query)으로 기록하고,
+ * slow-threshold 를 넘거나 sample-rate 에 걸린 쿼리만 key=value 형식으로 로그를 남깁니다.
+ * 바인딩 값이 빠진 정규화 SQL 별로 통계(건수, 평균, 최대, p50/p95/p99)를 모아 가장 느린 쿼리를 actuator(slowqueries)로 보여줍니다.
+ * 문장별 백분위는 고정 구간 히스토그램으로 계산하므로 문장당 메모리가 일정하고, 문장 수는 max-tracked 로 제한됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 문장별 히스토그램 구간 상한(ms). 마지막 구간 위는 최대 실행 시간으로 보고합니다.
+    private static final long[] BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+    enum LogDecision {
+        SLOW, SAMPLED, NONE
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final Cache<String, String> normalizedSql = Caffeine.newBuilder().maximumSize(2000).build();
+
+    @Value("${sql.log.slow-threshold:200}")
+    private long slowThreshold;
+
+    @Value("${sql.log.sample-rate:0.0}")
+    private double sampleRate;
+
+    @Value("${sql.log.max-tracked:1000}")
+    private int maxTracked;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        String sql = normalizedSql.get(rawSql(queryInfoList), SlowQueryListener::normalize);
+        String type = statementType(sql);
+
+        timers.computeIfAbsent(type, key -> Timer.builder("db.query")
+                        .tag("type", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsed, TimeUnit.MILLISECONDS);
+
+        QueryStats queryStats = stats.get(sql);
+        if (queryStats == null && stats.size() < maxTracked) {
+            queryStats = stats.computeIfAbsent(sql, key -> new QueryStats());
+        }
+        if (queryStats != null) {
+            queryStats.record(elapsed);
+        }
+
+        LogDecision decision = decide(elapsed, ThreadLocalRandom.current()::nextDouble);
+        if (decision == LogDecision.SLOW) {
+            log.warn("slow_query elapsed_ms={} type={} batch={} batch_size={} success={} connection={} sql=\"{}\"",
+                    elapsed, type, execInfo.isBatch(), execInfo.getBatchSize(), execInfo.isSuccess(),
+                    execInfo.getConnectionId(), sql);
+        } else if (decision == LogDecision.SAMPLED) {
+            log.info("sampled_query elapsed_ms={} type={} batch={} batch_size={} success={} connection={} sql=\"{}\"",
+                    elapsed, type, execInfo.isBatch(), execInfo.getBatchSize(), execInfo.isSuccess(),
+                    execInfo.getConnectionId(), sql);
+        }
+    }
+
+    /**
+     * slow-threshold 이상이면 SLOW, 아니면 sample-rate 확률로 SAMPLED 입니다. 난수는 샘플링할 때만 뽑습니다.
+     */
+    LogDecision decide(long elapsed, DoubleSupplier random) {
+        if (elapsed >= slowThreshold) {
+            return LogDecision.SLOW;
+        }
+        if (sampleRate > 0 && random.getAsDouble() < sampleRate) {
+            return LogDecision.SAMPLED;
+        }
+        return LogDecision.NONE;
+    }
+
+    /**
+     * 최대 실행 시간 기준으로 가장 느린 쿼리 limit 개를 반환합니다.
+     * @param limit
+     * @return
+     */
+    public List<SlowQueryDto> getSlowestQueries(int limit) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingLong(SlowQueryDto::getMaxMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static String rawSql(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        return queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+
+    static String normalize(String sql) {
+        String normalized = COMMENT.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static String statementType(String sql) {
+        int end = sql.indexOf(' ');
+        String keyword = (end < 0 ? sql : sql.substring(0, end)).toLowerCase(Locale.ROOT);
+
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private static class QueryStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+
+        private QueryStats() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long elapsed) {
+            count.increment();
+            totalMillis.add(elapsed);
+            maxMillis.accumulate(elapsed);
+            buckets[bucketOf(elapsed)].increment();
+        }
+
+        private SlowQueryDto toDto(String sql) {
+            long executed = count.sum();
+            double avg = executed == 0 ? 0 : (double) totalMillis.sum() / executed;
+            long max = maxMillis.get();
+            return new SlowQueryDto(sql, executed, max, avg, percentile(0.5, max), percentile(0.95, max),
+                    percentile(0.99, max));
+        }
+
+        private long percentile(double quantile, long max) {
+            long[] counts = new long[buckets.length];
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = (long) Math.ceil(quantile * total);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(BUCKETS[i], max);
+                }
+            }
+            return max;
+        }
+
+        private static int bucketOf(long elapsed) {
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (elapsed <= BUCKETS[i]) {
+                    return i;
+                }
+            }
+            return BUCKETS.length;
+        }
+    }
+}
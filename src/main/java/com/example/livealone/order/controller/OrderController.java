@@ -5,9 +5,11 @@ import com.example.livealone.global.dto.CommonResponseDto;
 import com.example.livealone.global.security.UserDetailsImpl;
 import com.example.livealone.order.dto.OrderRequestDto;
 import com.example.livealone.order.dto.OrderResponseDto;
+import com.example.livealone.order.service.OrderIntakeService;
 import com.example.livealone.order.service.OrderService;
 import com.example.livealone.user.entity.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,9 +23,11 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
 
     /**
      * 수량 입력 완료 버튼에 사용하는 API
+     * 대기열 모드에서는 티켓 ID를 바로 반환하고, 주문 결과는 /user/queue/reply 로 전달됩니다.
      * @param productId
      * @param broadcastId
      * @param userDetails
@@ -35,11 +39,23 @@ public class OrderController {
         @PathVariable("productId") Long productId,
         @PathVariable("broadcastId") Long broadcastId,
         @AuthenticationPrincipal UserDetailsImpl userDetails,
-        @RequestBody OrderRequestDto orderRequestDto
+        @Valid @RequestBody OrderRequestDto orderRequestDto
     ) throws JsonProcessingException {
 
         User user = userDetails.getUser();
 
+        if (orderIntakeService.isQueued()) {
+            OrderResponseDto ticket = orderIntakeService.submit(productId, broadcastId, user, orderRequestDto);
+
+            CommonResponseDto<OrderResponseDto> commonResponseDto = CommonResponseDto.<OrderResponseDto>builder()
+                .status(HttpStatus.ACCEPTED.value())
+                .message("order queued successfully")
+                .data(ticket)
+                .build();
+
+            return ResponseEntity.accepted().body(commonResponseDto);
+        }
+
         OrderResponseDto orderResponseDto = orderService.createOrder(productId, broadcastId, user, orderRequestDto);
 
         CommonResponseDto<OrderResponseDto> commonResponseDto = CommonResponseDto.<OrderResponseDto>builder()
@@ -0,0 +1,35 @@
+package com.example.livealone.order.dto;
+
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * order-events 토픽으로 발행하는 주문/결제 이벤트
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventDto {
+
+    private OutboxEventType eventType;
+    private Long orderId;
+    private Long userId;
+    private Long productId;
+    private Long broadcastId;
+    private int quantity;
+    private int amount;
+
+    /**
+     * @param eventType
+     * @param order product, broadcast, user 는 ID만 사용하므로 프록시여도 됩니다.
+     * @param amount 결제 금액 (결제 이벤트가 아니면 0)
+     * @return
+     */
+    public static OrderEventDto of(OutboxEventType eventType, Order order, int amount) {
+        return new OrderEventDto(eventType, order.getId(), order.getUser().getId(), order.getProduct().getId(),
+                order.getBroadcast().getId(), order.getQuantity(), amount);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.livealone.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대기열 주문 처리 결과. /user/queue/reply 로 전송됩니다.
+ */
+@Getter
+@Builder
+public class OrderIntakeResultDto {
+
+    private String ticketId;
+    private Long orderId;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.example.livealone.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대기열(order-intent 토픽)에 넣는 주문 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntentDto {
+
+    private String ticketId;
+    private Long userId;
+    private Long productId;
+    private Long broadcastId;
+    private int quantity;
+}
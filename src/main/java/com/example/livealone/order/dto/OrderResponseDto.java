@@ -6,9 +6,11 @@ import lombok.Getter;
 @Getter
 public class OrderResponseDto {
     private final Long orderId;
+    private final String ticketId;
 
     @Builder
-    public OrderResponseDto(Long orderId) {
+    public OrderResponseDto(Long orderId, String ticketId) {
         this.orderId = orderId;
+        this.ticketId = ticketId;
     }
 }
@@ -1,6 +1,7 @@
 package com.example.livealone.order.entity;
 
 import com.example.livealone.broadcast.entity.Broadcast;
+import com.example.livealone.global.entity.IdSequence;
 import com.example.livealone.global.entity.Timestamp;
 import com.example.livealone.product.entity.Product;
 import com.example.livealone.user.entity.User;
@@ -16,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,7 +29,9 @@ import lombok.NoArgsConstructor;
 public class Order extends Timestamp {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id")
+	@TableGenerator(name = "orders_id", table = IdSequence.TABLE, pkColumnName = IdSequence.SEGMENT_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "orders", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 
 	@Column(nullable = false)
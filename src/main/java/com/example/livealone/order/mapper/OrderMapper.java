@@ -12,4 +12,10 @@ public class OrderMapper {
         .quantity(product.getQuantity())
         .build();
   }
+
+  public static OrderQuantityResponseDto toOrderQuantityResponseDto(long quantity) {
+    return OrderQuantityResponseDto.builder()
+        .quantity(quantity)
+        .build();
+  }
 }
@@ -2,10 +2,13 @@ package com.example.livealone.order.repository;
 
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.user.entity.User;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OrderRepository extends JpaRepository<Order,Long>, OrderRepositoryQuery {
     Optional<Order> findByUser(User user);
@@ -13,4 +16,18 @@ public interface OrderRepository extends JpaRepository<Order,Long>, OrderReposit
     @Query("SELECT o FROM Order o JOIN FETCH o.product WHERE o.id = :orderId")
     Optional<Order> findByIdWithProduct(@Param("orderId") Long orderId);
 
+    @Query("SELECT o FROM Order o JOIN FETCH o.product WHERE o.id IN :orderIds "
+        + "AND NOT EXISTS (SELECT p FROM Payment p WHERE p.order = o AND p.status = com.example.livealone.payment.entity.PaymentStatus.COMPLETED)")
+    List<Order> findAllUnpaidByIdInWithProduct(@Param("orderIds") List<Long> orderIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds AND NOT EXISTS "
+            + "(SELECT p FROM Payment p WHERE p.order.id = o.id "
+            + "AND p.status = com.example.livealone.payment.entity.PaymentStatus.COMPLETED)")
+    int deleteUnpaidByIdIn(@Param("orderIds") List<Long> orderIds);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds")
+    List<Long> findIdsByIdIn(@Param("orderIds") List<Long> orderIds);
+
 }
@@ -1,8 +1,12 @@
 package com.example.livealone.order.repository;
 
 import com.example.livealone.admin.dto.AdminConsumerResponseDto;
+import com.example.livealone.broadcast.dto.BroadcastSalesDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
 
@@ -10,7 +14,11 @@ import org.springframework.stereotype.Repository;
 public interface OrderRepositoryQuery {
   Long sumQuantityByBroadcastId(Long broadcastId);
 
+  List<BroadcastSalesDto> sumSalesByBroadcastIds(Collection<Long> broadcastIds);
+
   Order findCurrentOrderByUserAndProduct(User user, Long productId);
 
   Page<AdminConsumerResponseDto> findAllByBroadcastId(Long broadcastId, int page, int size);
+
+  CursorPageDto<AdminConsumerResponseDto> findConsumersByBroadcastIdAndCursor(Long broadcastId, Long cursor, int size);
 }
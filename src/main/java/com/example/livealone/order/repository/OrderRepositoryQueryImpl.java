@@ -2,14 +2,24 @@ package com.example.livealone.order.repository;
 
 import com.example.livealone.admin.dto.AdminConsumerResponseDto;
 import com.example.livealone.admin.mapper.AdminMapper;
+import com.example.livealone.broadcast.dto.BroadcastSalesDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.order.entity.QOrder;
+import com.example.livealone.payment.entity.PaymentStatus;
+import com.example.livealone.payment.entity.QPayment;
 import com.example.livealone.product.entity.QProduct;
 import com.example.livealone.user.entity.QUser;
 import com.example.livealone.user.entity.User;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -40,6 +50,52 @@ public class OrderRepositoryQueryImpl implements OrderRepositoryQuery {
         return (long) sum;
     }
 
+    /**
+     * 방송별 주문 수량/건수와 결제 완료 금액을 방송 ID 묶음 단위로 한 번에 집계합니다.
+     * @param broadcastIds
+     * @return 주문이 없는 방송은 0으로 채워서 반환합니다.
+     */
+    @Override
+    public List<BroadcastSalesDto> sumSalesByBroadcastIds(Collection<Long> broadcastIds) {
+        QOrder order = QOrder.order;
+        QPayment payment = QPayment.payment;
+
+        List<Tuple> orderSums = jpaQueryFactory.select(order.broadcast.id, order.quantity.sum(), order.count())
+                .from(order)
+                .where(order.broadcast.id.in(broadcastIds))
+                .groupBy(order.broadcast.id)
+                .fetch();
+
+        List<Tuple> revenueSums = jpaQueryFactory.select(payment.order.broadcast.id,
+                        payment.amount.multiply(payment.orderQuantity).sum())
+                .from(payment)
+                .where(payment.order.broadcast.id.in(broadcastIds)
+                        .and(payment.status.eq(PaymentStatus.COMPLETED)))
+                .groupBy(payment.order.broadcast.id)
+                .fetch();
+
+        Map<Long, Long> revenues = new HashMap<>();
+        for (Tuple tuple : revenueSums) {
+            revenues.put(tuple.get(0, Long.class), toLong(tuple.get(1, Number.class)));
+        }
+
+        Map<Long, BroadcastSalesDto> sales = new HashMap<>();
+        for (Tuple tuple : orderSums) {
+            Long broadcastId = tuple.get(0, Long.class);
+            sales.put(broadcastId, new BroadcastSalesDto(broadcastId, toLong(tuple.get(1, Number.class)),
+                    toLong(tuple.get(2, Number.class)), revenues.getOrDefault(broadcastId, 0L)));
+        }
+
+        return broadcastIds.stream()
+                .map(id -> sales.getOrDefault(id, new BroadcastSalesDto(id, 0L, 0L, revenues.getOrDefault(id, 0L))))
+                .toList();
+    }
+
+    // JPA SUM 결과 타입은 구현체마다 Integer/Long 으로 다를 수 있습니다.
+    private long toLong(Number number) {
+        return number == null ? 0L : number.longValue();
+    }
+
     @Override
     public Order findCurrentOrderByUserAndProduct(User user, Long productId) {
 
@@ -63,6 +119,8 @@ public class OrderRepositoryQueryImpl implements OrderRepositoryQuery {
         Pageable pageable = PageRequest.of(page, size);
 
         List<Order> orderList = jpaQueryFactory.selectFrom(qOrder)
+            .join(qOrder.user).fetchJoin()
+            .join(qOrder.product).fetchJoin()
             .where(qOrder.broadcast.id.eq(broadcastId))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -72,6 +130,63 @@ public class OrderRepositoryQueryImpl implements OrderRepositoryQuery {
             .map(AdminMapper::toAdminConsumerResponseDto)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(adminConsumerResponseDtoList, pageable, orderList.size());
+        Long total = jpaQueryFactory.select(qOrder.count())
+            .from(qOrder)
+            .where(qOrder.broadcast.id.eq(broadcastId))
+            .fetchOne();
+
+        return new PageImpl<>(adminConsumerResponseDtoList, pageable, total == null ? 0L : total);
+    }
+
+    /**
+     * 방송 구매자 목록 커서 조회. 목록에 필요한 컬럼만 (생성 시각, 주문 ID) 내림차순으로 조회합니다.
+     * pooled ID 는 서버마다 블록을 나눠 받아 생성 순서와 다를 수 있으므로, cursor 주문의 생성 시각 기준으로 다음 페이지를 찾습니다.
+     */
+    @Override
+    public CursorPageDto<AdminConsumerResponseDto> findConsumersByBroadcastIdAndCursor(Long broadcastId, Long cursor, int size) {
+        QOrder qOrder = QOrder.order;
+        QUser qUser = QUser.user;
+        QProduct qProduct = QProduct.product;
+
+        BooleanExpression after = null;
+        if (cursor != null) {
+            LocalDateTime cursorCreatedAt = jpaQueryFactory.select(qOrder.createdAt)
+                .from(qOrder)
+                .where(qOrder.id.eq(cursor))
+                .fetchOne();
+            if (cursorCreatedAt == null) {
+                return CursorPageDto.of(List.of(), size, AdminConsumerResponseDto::getOrderId);
+            }
+            after = qOrder.createdAt.lt(cursorCreatedAt)
+                .or(qOrder.createdAt.eq(cursorCreatedAt).and(qOrder.id.lt(cursor)));
+        }
+
+        List<AdminConsumerResponseDto> content = jpaQueryFactory.select(
+                qOrder.id,
+                qUser.id,
+                qUser.username,
+                qOrder.quantity,
+                qProduct.price,
+                qOrder.updatedAt
+            )
+            .from(qOrder)
+            .innerJoin(qOrder.user, qUser)
+            .innerJoin(qOrder.product, qProduct)
+            .where(qOrder.broadcast.id.eq(broadcastId), after)
+            .orderBy(qOrder.createdAt.desc(), qOrder.id.desc())
+            .limit(size + 1)
+            .fetch()
+            .stream()
+            .map(tuple -> AdminConsumerResponseDto.builder()
+                .orderId(tuple.get(qOrder.id))
+                .userId(tuple.get(qUser.id))
+                .username(tuple.get(qUser.username))
+                .productQuantity(tuple.get(qOrder.quantity))
+                .paymentAmount(tuple.get(qOrder.quantity) * tuple.get(qProduct.price))
+                .orderDate(tuple.get(qOrder.updatedAt))
+                .build())
+            .toList();
+
+        return CursorPageDto.of(content, size, AdminConsumerResponseDto::getOrderId);
     }
 }
@@ -0,0 +1,247 @@
+package com.example.livealone.order.service;
+
+import com.example.livealone.alert.service.AlertService;
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.order.mapper.OrderMapper;
+import com.example.livealone.order.repository.OrderRepository;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import com.example.livealone.outbox.service.OutboxService;
+import com.example.livealone.payment.repository.PaymentRepository;
+import com.example.livealone.product.service.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제되지 않은 주문의 재고 점유(hold) 만료 관리
+ *
+ * 주문 생성 시 만료 시각을 점수로 Redis sorted set 에 등록하고, 스케쥴러가 만료된 주문을 배치로 꺼내
+ * 결제/주문을 일괄 삭제하고 상품별로 재고를 한 번에 복구합니다. 상품 캐시는 StockService 의 write-back 주기에 갱신됩니다.
+ * 꺼내기는 Lua 스크립트로 원자적으로 처리하므로 여러 서버에서 스케쥴러가 돌아도 같은 주문을 두 번 처리하지 않습니다.
+ *
+ * 점유 항목은 재고 복구 권한이기도 합니다. 만료/취소 경로는 release 로 항목을 직접 지웠거나
+ * 스케쥴러가 꺼낸 주문에 대해서만 재고를 복구하고 이벤트를 남깁니다.
+ *
+ * 스케쥴러는 꺼낸 주문을 바로 지우지 않고 처리 중 sorted set 으로 옮겨 processing-lease 동안 점유합니다.
+ * 삭제할 주문의 상품/수량은 DB 삭제 전에 Redis hash 에 기록하고, 재고 복구까지 끝난 주문만 두 곳에서 지웁니다.
+ * 중간에 실패하거나 서버가 죽으면 lease 가 끝난 뒤 다음 스케쥴러가 다시 가져가서, 이미 삭제된 주문은 기록된 수량으로 재고를 복구합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderHoldService {
+
+    public static final String REDIS_ORDER_HOLD_KEY = "OrderHold";
+
+    private static final String REDIS_PROCESSING_KEY = REDIS_ORDER_HOLD_KEY + ":processing";
+    private static final String REDIS_EXPIRING_KEY = REDIS_ORDER_HOLD_KEY + ":expiring";
+
+    /**
+     * lease 가 끝난 처리 중 주문을 먼저, 남는 자리만큼 만료된 점유를 꺼내서 처리 중 sorted set 에 now + lease 로 넣습니다.
+     * KEYS[1] 점유, KEYS[2] 처리 중 / ARGV[1] now, ARGV[2] batch size, ARGV[3] lease
+     */
+    private static final String CLAIM_EXPIRED_SCRIPT =
+            "local ids = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+                    + "local remain = tonumber(ARGV[2]) - #ids "
+                    + "if remain > 0 then "
+                    + "  local expired = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, remain) "
+                    + "  if #expired > 0 then redis.call('zrem', KEYS[1], unpack(expired)) end "
+                    + "  for _, id in ipairs(expired) do ids[#ids + 1] = id end "
+                    + "end "
+                    + "local deadline = tonumber(ARGV[1]) + tonumber(ARGV[3]) "
+                    + "for _, id in ipairs(ids) do redis.call('zadd', KEYS[2], deadline, id) end "
+                    + "return ids";
+
+    private final RedissonClient redissonClient;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final StockService stockService;
+    private final AlertService alertService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.hold.expire-time:600000}")
+    private long expireTime;
+
+    @Value("${order.hold.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.hold.processing-lease:60000}")
+    private long processingLease;
+
+    /**
+     * 주문의 재고 점유를 등록합니다. expire-time 이 지나도 결제되지 않으면 스케쥴러가 재고를 복구합니다.
+     * @param orderId
+     */
+    public void hold(Long orderId) {
+        getHolds().add(System.currentTimeMillis() + expireTime, String.valueOf(orderId));
+    }
+
+    /**
+     * 결제 완료/주문 취소 시 재고 점유를 해제합니다.
+     * @param orderId
+     * @return 이 호출이 점유를 지웠으면 true, 다른 경로(스케쥴러 등)가 이미 가져갔으면 false
+     *         스케쥴러가 처리 중인 주문도 false 입니다.
+     */
+    public boolean release(Long orderId) {
+        return getHolds().remove(String.valueOf(orderId));
+    }
+
+    /**
+     * 만료된 재고 점유를 정리하는 스케쥴러 입니다.
+     */
+    @Scheduled(fixedDelayString = "${order.hold.sweep-interval:5000}")
+    public void sweepExpiredHolds() {
+        List<Long> orderIds;
+        do {
+            orderIds = claimExpired();
+            if (orderIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                expire(orderIds);
+            } catch (Exception e) {
+                // 처리 중 sorted set 에 남아 있으므로 lease 가 끝나면 다시 처리합니다.
+                log.error("만료 주문 정리 실패 {}건, {}", orderIds.size(), e.getMessage());
+                return;
+            }
+        } while (orderIds.size() == batchSize);
+    }
+
+    private void expire(List<Long> orderIds) {
+        RMap<String, String> expiring = getExpiring();
+        Set<String> keys = new HashSet<>();
+        orderIds.forEach(orderId -> keys.add(String.valueOf(orderId)));
+        // 이전 처리에서 기록만 남기고 끝나지 못한 주문
+        Map<String, String> pending = new HashMap<>(expiring.getAll(keys));
+
+        List<Order> orders = orderRepository.findAllUnpaidByIdInWithProduct(orderIds);
+        List<Order> expiredOrders = orders.isEmpty() ? List.of() : deleteOrders(expiring, orders);
+
+        Map<Long, List<String>> releaseIds = new LinkedHashMap<>();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Order order : expiredOrders) {
+            String orderId = String.valueOf(order.getId());
+            pending.remove(orderId);
+            addRelease(releaseIds, quantities, order.getProduct().getId(), order.getQuantity(), orderId);
+        }
+
+        if (!pending.isEmpty()) {
+            // DB 에서 이미 삭제된 주문은 재고 복구만 남은 것이고, 남아 있는 주문은 그 사이 결제가 완료된 것입니다.
+            List<Long> pendingIds = pending.keySet().stream().map(Long::valueOf).toList();
+            Set<Long> remainIds = new HashSet<>(orderRepository.findIdsByIdIn(pendingIds));
+            pending.forEach((orderId, value) -> {
+                if (!remainIds.contains(Long.valueOf(orderId))) {
+                    String[] productAndQuantity = value.split(":");
+                    addRelease(releaseIds, quantities, Long.valueOf(productAndQuantity[0]),
+                            Integer.parseInt(productAndQuantity[1]), orderId);
+                }
+            });
+        }
+
+        List<String> done = new ArrayList<>(keys);
+        releaseIds.values().forEach(done::removeAll);
+        complete(done);
+
+        int released = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Long productId = entry.getKey();
+            try {
+                long remainStock = stockService.release(productId, entry.getValue());
+                alertService.sendStockQuantity(OrderMapper.toOrderQuantityResponseDto(remainStock));
+            } catch (Exception e) {
+                // 처리 중 sorted set 과 기록을 남겨 두고 lease 가 끝나면 다시 복구합니다.
+                log.error("만료 주문 재고 복구 실패, lease 후 재시도 productId : {}, {}", productId, e.getMessage());
+                continue;
+            }
+
+            complete(releaseIds.get(productId));
+            released += releaseIds.get(productId).size();
+        }
+
+        log.debug("만료된 주문 {}건 정리, 재고 복구 {}건", expiredOrders.size(), released);
+    }
+
+    private List<Order> deleteOrders(RMap<String, String> expiring, List<Order> orders) {
+        Map<String, String> records = new HashMap<>();
+        orders.forEach(order -> records.put(String.valueOf(order.getId()),
+                order.getProduct().getId() + ":" + order.getQuantity()));
+        expiring.putAll(records);
+
+        List<Long> unpaidOrderIds = orders.stream().map(Order::getId).toList();
+        List<Order> expiredOrders = transactionTemplate.execute(status -> {
+            paymentRepository.deleteUnpaidByOrderIdIn(unpaidOrderIds);
+            int deleted = orderRepository.deleteUnpaidByIdIn(unpaidOrderIds);
+            if (deleted == unpaidOrderIds.size()) {
+                orders.forEach(order -> outboxService.appendOrderEvent(OutboxEventType.ORDER_EXPIRED, order));
+                return orders;
+            }
+
+            // 조회 이후 결제가 완료된 주문은 삭제되지 않고 남아 있으므로 재고 복구 대상에서 뺍니다.
+            Set<Long> paidOrderIds = new HashSet<>(orderRepository.findIdsByIdIn(unpaidOrderIds));
+            List<Order> deletedOrders = orders.stream()
+                    .filter(order -> !paidOrderIds.contains(order.getId()))
+                    .toList();
+            deletedOrders.forEach(order -> outboxService.appendOrderEvent(OutboxEventType.ORDER_EXPIRED, order));
+            return deletedOrders;
+        });
+    }
+
+    private void addRelease(Map<Long, List<String>> releaseIds, Map<Long, Integer> quantities,
+            Long productId, int quantity, String orderId) {
+        releaseIds.computeIfAbsent(productId, id -> new ArrayList<>()).add(orderId);
+        quantities.merge(productId, quantity, Integer::sum);
+    }
+
+    /**
+     * 처리가 끝난 주문을 기록과 처리 중 sorted set 에서 지웁니다.
+     * 기록을 먼저 지우므로 그 사이 실패해도 다음 처리에서 재고를 다시 복구하지 않습니다.
+     */
+    private void complete(List<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        getExpiring().fastRemove(orderIds.toArray(new String[0]));
+        redissonClient.<String>getScoredSortedSet(REDIS_PROCESSING_KEY, StringCodec.INSTANCE).removeAll(orderIds);
+    }
+
+    private List<Long> claimExpired() {
+        List<Object> ids = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_EXPIRED_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(REDIS_ORDER_HOLD_KEY, REDIS_PROCESSING_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(batchSize),
+                String.valueOf(processingLease)
+        );
+
+        return ids.stream().map(id -> Long.valueOf(String.valueOf(id))).toList();
+    }
+
+    private RScoredSortedSet<String> getHolds() {
+        return redissonClient.getScoredSortedSet(REDIS_ORDER_HOLD_KEY, StringCodec.INSTANCE);
+    }
+
+    private RMap<String, String> getExpiring() {
+        return redissonClient.getMap(REDIS_EXPIRING_KEY, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.livealone.order.service;
+
+import com.example.livealone.global.dto.SocketMessageDto;
+import com.example.livealone.global.exception.CustomException;
+import com.example.livealone.global.socket.SocketMessageSender;
+import com.example.livealone.order.dto.OrderIntakeResultDto;
+import com.example.livealone.order.dto.OrderIntentDto;
+import com.example.livealone.order.dto.OrderRequestDto;
+import com.example.livealone.order.dto.OrderResponseDto;
+import com.example.livealone.user.entity.User;
+import com.example.livealone.user.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.example.livealone.global.entity.SocketMessageType.ORDER_FAILED;
+import static com.example.livealone.global.entity.SocketMessageType.RESPONSE_ORDER;
+
+/**
+ * 주문 대기열
+ *
+ * order.intake.mode 가 queued 이면 주문 요청을 order-intent 토픽(상품 ID 키)에 넣고 티켓 ID만 바로 반환합니다.
+ * 컨슈머가 상품별 순서대로 주문을 생성하고, 결과는 유저의 /user/queue/reply 로 보냅니다.
+ * Kafka 는 같은 레코드를 다시 전달할 수 있으므로 티켓 ID를 Redis 에 SETNX 로 기록해 한 번만 주문을 생성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    public static final String ORDER_INTENT_TOPIC = "order-intent";
+
+    private static final String QUEUED_MODE = "queued";
+    private static final String REPLY_DESTINATION = "/queue/reply";
+    private static final String REDIS_TICKET_KEY = "OrderIntakeTicket::";
+
+    private final OrderService orderService;
+    private final UserService userService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SocketMessageSender socketMessageSender;
+    private final ObjectMapper objectMapper;
+    private final RedissonClient redissonClient;
+
+    @Value("${order.intake.mode:sync}")
+    private String intakeMode;
+
+    @Value("${order.intake.dedup-ttl:86400000}")
+    private long dedupTtl;
+
+    public boolean isQueued() {
+        return QUEUED_MODE.equals(intakeMode);
+    }
+
+    /**
+     * 주문 요청을 대기열에 넣고 티켓을 반환합니다.
+     * @param productId
+     * @param broadcastId
+     * @param user
+     * @param orderRequestDto
+     * @return 티켓 ID
+     * @throws JsonProcessingException
+     */
+    public OrderResponseDto submit(Long productId, Long broadcastId, User user, OrderRequestDto orderRequestDto)
+        throws JsonProcessingException {
+        String ticketId = UUID.randomUUID().toString();
+        OrderIntentDto orderIntentDto = new OrderIntentDto(ticketId, user.getId(), productId, broadcastId,
+                orderRequestDto.getQuantity());
+
+        kafkaTemplate.send(ORDER_INTENT_TOPIC, String.valueOf(productId), objectMapper.writeValueAsString(orderIntentDto))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("대기열 주문 발행 실패 ticketId : {}, {}", ticketId, e.getMessage());
+                        replyFailed(orderIntentDto, "주문 접수 실패");
+                    }
+                });
+
+        return OrderResponseDto.builder().ticketId(ticketId).build();
+    }
+
+    @KafkaListener(
+            topics = ORDER_INTENT_TOPIC,
+            groupId = "order-intake",
+            containerFactory = "orderIntakeListenerContainerFactory",
+            autoStartup = "#{'${order.intake.mode:sync}' == 'queued'}"
+    )
+    public void consume(String record) throws JsonProcessingException {
+        OrderIntentDto orderIntentDto = objectMapper.readValue(record, OrderIntentDto.class);
+        String userId = String.valueOf(orderIntentDto.getUserId());
+
+        if (!claimTicket(orderIntentDto.getTicketId())) {
+            log.debug("이미 처리한 티켓 ticketId : {}", orderIntentDto.getTicketId());
+            return;
+        }
+
+        SocketMessageDto reply;
+        try {
+            User user = userService.findUserById(orderIntentDto.getUserId());
+            OrderResponseDto orderResponseDto = orderService.createOrder(orderIntentDto.getProductId(),
+                    orderIntentDto.getBroadcastId(), user, orderIntentDto.getQuantity());
+
+            OrderIntakeResultDto result = OrderIntakeResultDto.builder()
+                    .ticketId(orderIntentDto.getTicketId())
+                    .orderId(orderResponseDto.getOrderId())
+                    .build();
+            reply = new SocketMessageDto(RESPONSE_ORDER, "server", objectMapper.writeValueAsString(result));
+        } catch (CustomException e) {
+            reply = failed(orderIntentDto, e.getMessage());
+        } catch (Exception e) {
+            log.error("대기열 주문 처리 실패 ticketId : {}, {}", orderIntentDto.getTicketId(), e.getMessage());
+            reply = failed(orderIntentDto, "주문 처리 실패");
+        }
+
+        socketMessageSender.sendToUser(userId, REPLY_DESTINATION, reply);
+    }
+
+    private boolean claimTicket(String ticketId) {
+        return redissonClient.getBucket(REDIS_TICKET_KEY + ticketId, StringCodec.INSTANCE)
+                .setIfAbsent("1", Duration.ofMillis(dedupTtl));
+    }
+
+    private void replyFailed(OrderIntentDto orderIntentDto, String message) {
+        try {
+            socketMessageSender.sendToUser(String.valueOf(orderIntentDto.getUserId()), REPLY_DESTINATION,
+                    failed(orderIntentDto, message));
+        } catch (Exception e) {
+            log.error("대기열 주문 실패 응답 전송 실패 ticketId : {}, {}", orderIntentDto.getTicketId(), e.getMessage());
+        }
+    }
+
+    private SocketMessageDto failed(OrderIntentDto orderIntentDto, String message) throws JsonProcessingException {
+        OrderIntakeResultDto result = OrderIntakeResultDto.builder()
+                .ticketId(orderIntentDto.getTicketId())
+                .message(message)
+                .build();
+
+        return new SocketMessageDto(ORDER_FAILED, "server", objectMapper.writeValueAsString(result));
+    }
+}
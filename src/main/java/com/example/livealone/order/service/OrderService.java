@@ -5,6 +5,7 @@ import com.example.livealone.alert.service.AlertService;
 import com.example.livealone.broadcast.entity.Broadcast;
 import com.example.livealone.broadcast.service.BroadcastService;
 import com.example.livealone.global.aop.DistributedLock;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.global.exception.CustomException;
 import com.example.livealone.order.dto.OrderRequestDto;
 import com.example.livealone.order.dto.OrderResponseDto;
@@ -12,22 +13,22 @@ import com.example.livealone.order.entity.Order;
 import com.example.livealone.order.entity.OrderStatus;
 import com.example.livealone.order.mapper.OrderMapper;
 import com.example.livealone.order.repository.OrderRepository;
-import com.example.livealone.product.entity.Product;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import com.example.livealone.outbox.service.OutboxService;
 import com.example.livealone.product.service.ProductService;
+import com.example.livealone.product.service.StockService;
 import com.example.livealone.user.entity.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -36,55 +37,66 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ProductService productService;
+    private final StockService stockService;
+    private final OrderHoldService orderHoldService;
     private final BroadcastService broadcastService;
     private final AlertService alertService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
     private final MessageSource messageSource;
 
-    private final RedissonClient redissonClient;
 
-    @DistributedLock(key = "'createOrder-' + #user.getId()")
+    /**
+     * 재고는 Redis 카운터에서 원자적으로 차감하므로 분산 락 없이 주문을 생성합니다.
+     */
     public OrderResponseDto createOrder(Long productId, Long broadcastId, User user, OrderRequestDto orderRequestDto)
         throws JsonProcessingException {
+        return createOrder(productId, broadcastId, user, orderRequestDto.getQuantity());
+    }
+
+    public OrderResponseDto createOrder(Long productId, Long broadcastId, User user, int orderQuantity)
+        throws JsonProcessingException {
 
         Broadcast broadcast = broadcastService.findByBroadcastId(broadcastId);
-        Product product = productService.findByProductId(productId);
-        int orderQuantity = orderRequestDto.getQuantity();
 
-        if (product.getQuantity() < orderQuantity) {
-            throw new CustomException(messageSource.getMessage(
-                    "no.exit.enough.product",
-                    null,
-                    CustomException.DEFAULT_ERROR_MESSAGE,
-                    Locale.getDefault()
-            ), HttpStatus.NOT_FOUND);
+        // 상품이 없으면 재고를 불러오는 단계에서 product.not.found 로 실패합니다.
+        long remainStock = stockService.reserve(productId, orderQuantity);
+
+        Order curOder;
+        try {
+            curOder = transactionTemplate.execute(status -> {
+                Order order = Order.builder()
+                        .user(user)
+                        .product(productService.getReference(productId))
+                        .quantity(orderQuantity)
+                        .orderStatus(OrderStatus.READY)
+                        .broadcast(broadcast)
+                        .build();
+                Order saved = orderRepository.save(order);
+                outboxService.appendOrderEvent(OutboxEventType.ORDER_CREATED, saved);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            stockService.release(productId, orderQuantity);
+            throw e;
         }
 
-        product.decreaseStock(orderQuantity);
-        updateCacheProduct(product);
-        checkSoldOut(product);
-
-        Order order = Order.builder()
-                .user(user)
-                .product(product)
-                .quantity(orderQuantity)
-                .orderStatus(OrderStatus.READY)
-                .broadcast(broadcast)
-                .build();
+        orderHoldService.hold(curOder.getId());
 
-        productService.saveProduct(product);
-        broadcastService.saveBroadcast(broadcast);
-        Order curOder = orderRepository.save(order);
+        // 캐시의 상품 재고는 StockService write-back 에서만 갱신합니다.
+        checkSoldOut(remainStock);
 
         return OrderResponseDto.builder().orderId(curOder.getId()).build();
 
     }
 
-    @DistributedLock(key = "'checkStock-' + #productId")
+    /**
+     * 구매 버튼 클릭 시 재고 확인. 읽기 전용이므로 락 없이 재고 스냅샷으로 확인합니다.
+     * @param productId
+     */
     public void checkStock(Long productId) {
 
-        Product product = productService.findByProductId(productId);
-
-        if (product.getQuantity() < 1) {
+        if (stockService.getAvailableStock(productId) < 1) {
             throw new CustomException(messageSource.getMessage(
                     "no.exit.enough.product",
                     null,
@@ -115,11 +127,23 @@ public class OrderService {
 
         if (timeDifference >= 10) {
 
-            Product product = productService.findByProductId(productId);
-            product.rollbackStock(order.getQuantity());
-            updateCacheProduct(product);
-            productService.saveProduct(product);
-            orderRepository.delete(order);
+            // 만료 스케쥴러와 동시에 처리되면 재고 점유를 먼저 가져온 쪽만 재고를 복구하고 이벤트를 남깁니다.
+            if (!orderHoldService.release(order.getId())) {
+                log.debug("만료 스케쥴러가 처리 중인 주문 : {}", order.getId());
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    outboxService.appendOrderEvent(OutboxEventType.ORDER_EXPIRED, order);
+                    orderRepository.delete(order);
+                });
+            } catch (RuntimeException e) {
+                orderHoldService.hold(order.getId());
+                throw e;
+            }
+
+            stockService.release(productId, order.getQuantity());
 
         } else {
             throw new CustomException(messageSource.getMessage(
@@ -151,17 +175,23 @@ public class OrderService {
         return orderRepository.findAllByBroadcastId(broadcastId, page, size);
     }
 
-    private void checkSoldOut(Product product) throws JsonProcessingException {
-        if(product.getQuantity() < 1) {
+    /**
+     * 해당 방송의 주문 목록을 커서 기반으로 반환하는 메서드
+     * @param broadcastId
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size
+     * @return
+     */
+    public CursorPageDto<AdminConsumerResponseDto> getOrdersByBroadcastIdAndCursor(Long broadcastId, Long cursor, int size) {
+        return orderRepository.findConsumersByBroadcastIdAndCursor(broadcastId, cursor, size);
+    }
+
+    private void checkSoldOut(long remainStock) throws JsonProcessingException {
+        if(remainStock < 1) {
             alertService.sendSoldOutAlert();
-        }else if (product.getQuantity() <= 10) {
-            alertService.sendStockQuantity(OrderMapper.toOrderQuantityResponseDto(product));
+        }else if (remainStock <= 10) {
+            alertService.sendStockQuantity(OrderMapper.toOrderQuantityResponseDto(remainStock));
         }
 
     }
-
-    public void updateCacheProduct(Product product) {
-        RBucket<Product> bucket = redissonClient.getBucket(ProductService.REDIS_PRODUCT_KEY + product.getId());
-        bucket.set(product, 1, TimeUnit.HOURS);
-    }
 }
@@ -0,0 +1,54 @@
+package com.example.livealone.outbox.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문/결제 변경과 같은 트랜잭션에서 저장되고, OutboxRelay가 Kafka로 발행하는 이벤트
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_published_at", columnList = "published_at, id"))
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false)
+	private String messageKey;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	@Builder
+	public OutboxEvent(OutboxEventType eventType, String messageKey, String payload) {
+		this.eventType = eventType;
+		this.messageKey = messageKey;
+		this.payload = payload;
+		this.createdAt = LocalDateTime.now();
+	}
+}
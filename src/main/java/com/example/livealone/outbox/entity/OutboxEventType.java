@@ -0,0 +1,8 @@
+package com.example.livealone.outbox.entity;
+
+public enum OutboxEventType {
+	ORDER_CREATED,
+	ORDER_CANCELED,
+	ORDER_EXPIRED,
+	PAYMENT_COMPLETED
+}
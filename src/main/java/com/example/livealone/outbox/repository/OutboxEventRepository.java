@@ -0,0 +1,29 @@
+package com.example.livealone.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.livealone.outbox.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	@Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id ASC")
+	List<OutboxEvent> findUnpublished(Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+	int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+	int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
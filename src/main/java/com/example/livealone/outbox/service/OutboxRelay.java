@@ -0,0 +1,131 @@
+package com.example.livealone.outbox.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.livealone.outbox.entity.OutboxEvent;
+import com.example.livealone.outbox.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발행되지 않은 outbox 이벤트를 id 순서대로 묶어서 Kafka로 보냅니다.
+ *
+ * 여러 서버 중 Redis 락을 잡은 한 곳에서만 발행하고, 앞에서부터 전송이 확인된 이벤트까지만 발행 완료로 표시합니다.
+ * 전송 후 표시 전에 서버가 죽으면 같은 이벤트가 다시 나갈 수 있으므로(at-least-once), 소비자는 event-id 헤더로 중복을 거릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	public static final String ORDER_EVENT_TOPIC = "order-events";
+	public static final String EVENT_ID_HEADER = "event-id";
+	public static final String EVENT_TYPE_HEADER = "event-type";
+
+	private static final String RELAY_LOCK_KEY = "LOCK:outbox-relay";
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final RedissonClient redissonClient;
+
+	@Value("${outbox.relay.batch-size:500}")
+	private int batchSize;
+
+	@Value("${outbox.relay.send-timeout:5000}")
+	private long sendTimeout;
+
+	@Value("${outbox.relay.lease-time:30000}")
+	private long leaseTime;
+
+	@Value("${outbox.relay.retention:86400000}")
+	private long retention;
+
+	@Scheduled(fixedDelayString = "${outbox.relay.interval:500}")
+	public void relay() {
+		RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, leaseTime, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		try {
+			int published;
+			do {
+				published = publishBatch();
+			} while (published == batchSize);
+		} catch (Exception e) {
+			log.error("outbox 이벤트 발행 실패 : {}", e.getMessage());
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 발행이 끝난 지 retention 이 지난 이벤트를 지웁니다.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.cleanup-interval:3600000}")
+	public void cleanup() {
+		int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(Duration.ofMillis(retention)));
+		log.debug("발행 완료된 outbox 이벤트 {}건 삭제", deleted);
+	}
+
+	private int publishBatch() {
+		List<OutboxEvent> events = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+		for (OutboxEvent event : events) {
+			ProducerRecord<String, String> record = new ProducerRecord<>(ORDER_EVENT_TOPIC, event.getMessageKey(),
+				event.getPayload());
+			record.headers().add(EVENT_ID_HEADER, String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8));
+			record.headers().add(EVENT_TYPE_HEADER, event.getEventType().name().getBytes(StandardCharsets.UTF_8));
+			futures.add(kafkaTemplate.send(record));
+		}
+		kafkaTemplate.flush();
+
+		List<Long> publishedIds = new ArrayList<>(events.size());
+		for (int i = 0; i < events.size(); i++) {
+			try {
+				futures.get(i).get(sendTimeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				log.warn("outbox 이벤트 전송 실패 id : {}, {}", events.get(i).getId(), e.getMessage());
+				break;
+			}
+			publishedIds.add(events.get(i).getId());
+		}
+
+		if (!publishedIds.isEmpty()) {
+			outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+		}
+
+		return publishedIds.size();
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.livealone.outbox.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.livealone.order.dto.OrderEventDto;
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.outbox.entity.OutboxEvent;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import com.example.livealone.outbox.repository.OutboxEventRepository;
+import com.example.livealone.payment.entity.Payment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트를 outbox 테이블에 저장합니다.
+ * 호출하는 쪽의 주문/결제 변경과 함께 커밋되도록 반드시 트랜잭션 안에서 호출해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendOrderEvent(OutboxEventType eventType, Order order) {
+		appendOrderEvent(eventType, order, 0);
+	}
+
+	/**
+	 * 결제 이벤트의 금액은 단가 * 주문 수량 입니다.
+	 * @param eventType
+	 * @param payment
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendPaymentEvent(OutboxEventType eventType, Payment payment) {
+		appendOrderEvent(eventType, payment.getOrder(), payment.getAmount() * payment.getOrderQuantity());
+	}
+
+	/**
+	 * 주문 이벤트는 방송 ID를 키로 발행되므로, 같은 방송의 이벤트는 저장된 순서대로 소비됩니다.
+	 * @param eventType
+	 * @param order
+	 * @param amount 결제 금액
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendOrderEvent(OutboxEventType eventType, Order order, int amount) {
+		OrderEventDto orderEventDto = OrderEventDto.of(eventType, order, amount);
+		try {
+			outboxEventRepository.save(OutboxEvent.builder()
+				.eventType(eventType)
+				.messageKey(String.valueOf(orderEventDto.getBroadcastId()))
+				.payload(objectMapper.writeValueAsString(orderEventDto))
+				.build());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("outbox 이벤트 직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.livealone.payment.client;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 결제 대행사(PG) 호출
+ * 모든 호출은 호출별 제한 시간, PG별 동시 호출 수 제한, 서킷 브레이커가 적용된 Mono 를 반환합니다.
+ */
+public interface PaymentGatewayClient {
+
+	Mono<JsonNode> kakaoReady(Map<String, String> params);
+
+	Mono<JsonNode> kakaoApprove(Map<String, String> params);
+
+	/**
+	 * 카카오페이 결제 상태 조회. 승인 응답을 받지 못했을 때 PG 쪽 상태를 확인합니다.
+	 */
+	Mono<JsonNode> kakaoInquiry(Map<String, String> params);
+
+	Mono<JsonNode> kakaoCancel(Map<String, Object> params);
+
+	Mono<JsonNode> tossReady(Map<String, Object> params);
+
+}
@@ -0,0 +1,156 @@
+package com.example.livealone.payment.client;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * WebClient(Reactor Netty) 기반 PG 클라이언트
+ *
+ * 연결은 이벤트 루프에서 처리되므로 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * PG별로 Bulkhead(동시 호출 수)와 CircuitBreaker(연속 실패 시 빠른 실패)를 따로 둡니다.
+ */
+@Slf4j
+@Component
+public class WebClientPaymentGatewayClient implements PaymentGatewayClient {
+
+	private static final String KAKAO_READY_PATH = "/online/v1/payment/ready";
+	private static final String KAKAO_APPROVE_PATH = "/online/v1/payment/approve";
+	private static final String KAKAO_INQUIRY_PATH = "/online/v1/payment/order";
+	private static final String KAKAO_CANCEL_PATH = "/online/v1/payment/cancel";
+	private static final String TOSS_READY_PATH = "/api/v2/payments";
+
+	@Value("${payment.kakao.secret-key}")
+	private String kakaoSecretKey;
+
+	@Value("${payment.gateway.kakao.base-url:https://open-api.kakaopay.com}")
+	private String kakaoBaseUrl;
+
+	@Value("${payment.gateway.toss.base-url:https://pay.toss.im}")
+	private String tossBaseUrl;
+
+	@Value("${payment.gateway.connect-timeout:2000}")
+	private int connectTimeout;
+
+	@Value("${payment.gateway.deadline:5000}")
+	private long deadline;
+
+	@Value("${payment.gateway.max-concurrent-calls:50}")
+	private int maxConcurrentCalls;
+
+	@Value("${payment.gateway.circuit-breaker.failure-rate-threshold:50}")
+	private float failureRateThreshold;
+
+	@Value("${payment.gateway.circuit-breaker.sliding-window-size:20}")
+	private int slidingWindowSize;
+
+	@Value("${payment.gateway.circuit-breaker.wait-duration-in-open-state:10000}")
+	private long waitDurationInOpenState;
+
+	private WebClient kakaoClient;
+	private WebClient tossClient;
+
+	private Gateway kakao;
+	private Gateway toss;
+
+	@PostConstruct
+	public void init() {
+		// 응답 대기 제한은 호출별 timeout(deadline) 하나로 둡니다.
+		HttpClient httpClient = HttpClient.create()
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+		ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+
+		kakaoClient = WebClient.builder()
+			.baseUrl(kakaoBaseUrl)
+			.clientConnector(connector)
+			.defaultHeader(HttpHeaders.AUTHORIZATION, "SECRET_KEY " + kakaoSecretKey)
+			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.build();
+
+		tossClient = WebClient.builder()
+			.baseUrl(tossBaseUrl)
+			.clientConnector(connector)
+			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.build();
+
+		kakao = new Gateway("kakao-pay");
+		toss = new Gateway("toss-pay");
+	}
+
+	@Override
+	public Mono<JsonNode> kakaoReady(Map<String, String> params) {
+		return post(kakaoClient, KAKAO_READY_PATH, params, kakao);
+	}
+
+	@Override
+	public Mono<JsonNode> kakaoApprove(Map<String, String> params) {
+		return post(kakaoClient, KAKAO_APPROVE_PATH, params, kakao);
+	}
+
+	@Override
+	public Mono<JsonNode> kakaoInquiry(Map<String, String> params) {
+		return post(kakaoClient, KAKAO_INQUIRY_PATH, params, kakao);
+	}
+
+	@Override
+	public Mono<JsonNode> kakaoCancel(Map<String, Object> params) {
+		return post(kakaoClient, KAKAO_CANCEL_PATH, params, kakao);
+	}
+
+	@Override
+	public Mono<JsonNode> tossReady(Map<String, Object> params) {
+		return post(tossClient, TOSS_READY_PATH, params, toss);
+	}
+
+	private Mono<JsonNode> post(WebClient webClient, String path, Object body, Gateway gateway) {
+		return webClient.post()
+			.uri(path)
+			.bodyValue(body)
+			.retrieve()
+			.bodyToMono(JsonNode.class)
+			.timeout(Duration.ofMillis(deadline))
+			.transformDeferred(CircuitBreakerOperator.of(gateway.circuitBreaker))
+			.transformDeferred(BulkheadOperator.of(gateway.bulkhead))
+			.doOnError(e -> log.debug("{} 호출 실패 {} : {}", gateway.name, path, e.getMessage()));
+	}
+
+	private class Gateway {
+
+		private final String name;
+		private final CircuitBreaker circuitBreaker;
+		private final Bulkhead bulkhead;
+
+		private Gateway(String name) {
+			this.name = name;
+			this.circuitBreaker = CircuitBreaker.of(name, CircuitBreakerConfig.custom()
+				.failureRateThreshold(failureRateThreshold)
+				.slidingWindowSize(slidingWindowSize)
+				.waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenState))
+				.build());
+			this.bulkhead = Bulkhead.of(name, BulkheadConfig.custom()
+				.maxConcurrentCalls(maxConcurrentCalls)
+				.maxWaitDuration(Duration.ZERO)
+				.build());
+		}
+	}
+}
@@ -2,9 +2,12 @@ package com.example.livealone.payment.controller;
 
 import com.example.livealone.global.config.URIConfig;
 import com.example.livealone.global.dto.CommonResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.payment.dto.PaymentHistoryDto;
+import com.example.livealone.payment.dto.PaymentInfoDto;
 import com.example.livealone.payment.dto.PaymentRequestDto;
 import com.example.livealone.payment.dto.PaymentResponseDto;
+import com.example.livealone.payment.service.PaymentApprovalService;
 import com.example.livealone.payment.service.PaymentService;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.view.RedirectView;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,6 +35,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class PaymentController {
 
 	private final PaymentService paymentService;
+	private final PaymentApprovalService paymentApprovalService;
 	private final URIConfig uriConfig;
 
 	/**
@@ -40,13 +45,14 @@ public class PaymentController {
 	 * @return 결제 응답 DTO
 	 */
 	@PostMapping("/payment/kakao/process")
-	public ResponseEntity<PaymentResponseDto> createKakaoPayReady(@RequestBody PaymentRequestDto requestDto) {
+	public Mono<ResponseEntity<PaymentResponseDto>> createKakaoPayReady(@RequestBody PaymentRequestDto requestDto) {
 		log.debug("Get kakao API : {}",requestDto.getItemName());
-		PaymentResponseDto response = paymentService.createKakaoPayReady(requestDto);
-		if (response.getStatus().equals("FAILED")) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-		}
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		return paymentService.createKakaoPayReady(requestDto).map(response -> {
+			if (response.getStatus().equals("FAILED")) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+			}
+			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		});
 	}
 
 	/**
@@ -58,13 +64,17 @@ public class PaymentController {
 	 * @return 결제 응답 DTO
 	 */
 	@PostMapping("/payment/kakao/approve")
-	public ResponseEntity<PaymentResponseDto> approveKakaoPayPayment(@RequestParam String pgToken, @RequestParam Long orderId, @RequestParam Long userId) {
+	public Mono<ResponseEntity<PaymentResponseDto>> approveKakaoPayPayment(@RequestParam String pgToken, @RequestParam Long orderId, @RequestParam Long userId) {
 		log.debug("Kakao apporve controller");
-		PaymentResponseDto response = paymentService.approveKakaoPayPayment(pgToken, orderId, userId);
-		if (response.getStatus().equals("FAILED")) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-		}
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		return paymentApprovalService.approveKakaoPayPayment(pgToken, orderId, userId).map(response -> {
+			if (response.getStatus().equals("FAILED")) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+			}
+			if (response.getStatus().equals("PROCESSING")) {
+				return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+			}
+			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		});
 	}
 
 	/**
@@ -76,19 +86,20 @@ public class PaymentController {
 	 * @return 결제 응답 DTO
 	 */
 	@GetMapping("/payment/kakao/complete")
-	public RedirectView completeKakaoPayment(@RequestParam("pg_token") String pgToken,
+	public Mono<RedirectView> completeKakaoPayment(@RequestParam("pg_token") String pgToken,
 											@RequestParam("order_id") Long orderId,
 											@RequestParam("user_id") Long userId) {
-		PaymentResponseDto response = paymentService.approveKakaoPayPayment(pgToken, orderId, userId);
-		RedirectView redirectView = new RedirectView();
-		if (response.getStatus().equals("FAILED")) {
-			String url = "https://livealone.shop/payment";
-			redirectView.setUrl(url);
-		} else {
-			String url = "https://livealone.shop/completepayment";
-			redirectView.setUrl(url);
-		}
-		return redirectView;
+		return paymentApprovalService.approveKakaoPayPayment(pgToken, orderId, userId).map(response -> {
+			RedirectView redirectView = new RedirectView();
+			if (response.getStatus().equals("FAILED")) {
+				String url = "https://livealone.shop/payment";
+				redirectView.setUrl(url);
+			} else {
+				String url = "https://livealone.shop/completepayment";
+				redirectView.setUrl(url);
+			}
+			return redirectView;
+		});
 	}
 
 	/**
@@ -111,12 +122,13 @@ public class PaymentController {
 	 * @return 결제 응답 DTO
 	 */
 	@PostMapping("/payment/toss/process")
-	public ResponseEntity<PaymentResponseDto> createTossPayReady(@RequestBody PaymentRequestDto requestDto) {
-		PaymentResponseDto response = paymentService.createTossPayReady(requestDto);
-		if (response.getStatus().equals("FAILED")) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-		}
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+	public Mono<ResponseEntity<PaymentResponseDto>> createTossPayReady(@RequestBody PaymentRequestDto requestDto) {
+		return paymentService.createTossPayReady(requestDto).map(response -> {
+			if (response.getStatus().equals("FAILED")) {
+				return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+			}
+			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		});
 	}
 
 
@@ -179,4 +191,27 @@ public class PaymentController {
 
 		return ResponseEntity.ok(responseDto);
 	}
+
+	/**
+	 * 사용자별 결제 내역 커서 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+	 * @return 결제 내역 리스트
+	 */
+	@GetMapping("/payment/user/{userId}/completed/cursor")
+	public ResponseEntity<CommonResponseDto<CursorPageDto<PaymentInfoDto>>> getCompletedPaymentsByUserIdAndCursor(
+		@PathVariable Long userId,
+		@RequestParam(required = false) Long cursor) {
+
+		CursorPageDto<PaymentInfoDto> paymentHistory = paymentService.getCompletedPaymentsByUserIdAndCursor(userId, cursor);
+
+		CommonResponseDto<CursorPageDto<PaymentInfoDto>> responseDto = CommonResponseDto.<CursorPageDto<PaymentInfoDto>>builder()
+			.status(200)
+			.message("결제 내역 조회 성공")
+			.data(paymentHistory)
+			.build();
+
+		return ResponseEntity.ok(responseDto);
+	}
 }
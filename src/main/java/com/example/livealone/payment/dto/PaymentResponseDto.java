@@ -1,10 +1,14 @@
 package com.example.livealone.payment.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PaymentResponseDto {
 	private String status;
 	private String message;
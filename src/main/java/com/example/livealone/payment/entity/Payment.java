@@ -1,5 +1,6 @@
 package com.example.livealone.payment.entity;
 
+import com.example.livealone.global.entity.IdSequence;
 import com.example.livealone.global.entity.Timestamp;
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.user.entity.User;
@@ -9,13 +10,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = @Index(name = "idx_payments_user_status", columnList = "user_id, status"))
 @NoArgsConstructor
 @Getter
 public class Payment extends Timestamp {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "payments_id")
+	@TableGenerator(name = "payments_id", table = IdSequence.TABLE, pkColumnName = IdSequence.SEGMENT_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "payments", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 
 	@ManyToOne
@@ -5,15 +5,28 @@ import com.example.livealone.payment.entity.PaymentStatus;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentRepositoryQuery {
+	// 결제 내역 목록에서 쓰는 주문/상품(과 EAGER 연관)을 한 번에 조회합니다.
+	@EntityGraph(attributePaths = {"user", "order", "order.product", "order.product.seller"})
 	Page<Payment> findByUserIdAndStatusOrderByCreatedAtDesc(Long userId, PaymentStatus status, Pageable pageable);
 
 	Payment findByOrder_Id(Long orderId);
 
 	boolean existsByTid(String tid);
 
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM Payment p WHERE p.order.id IN :orderIds "
+		+ "AND p.status <> com.example.livealone.payment.entity.PaymentStatus.COMPLETED")
+	int deleteUnpaidByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
 }
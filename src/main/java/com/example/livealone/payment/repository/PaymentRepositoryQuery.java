@@ -0,0 +1,9 @@
+package com.example.livealone.payment.repository;
+
+import com.example.livealone.global.dto.CursorPageDto;
+import com.example.livealone.payment.dto.PaymentInfoDto;
+
+public interface PaymentRepositoryQuery {
+
+	CursorPageDto<PaymentInfoDto> findCompletedPaymentsByUserIdAndCursor(Long userId, Long cursor, int size);
+}
@@ -0,0 +1,82 @@
+package com.example.livealone.payment.repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.livealone.global.dto.CursorPageDto;
+import com.example.livealone.order.entity.QOrder;
+import com.example.livealone.payment.dto.PaymentInfoDto;
+import com.example.livealone.payment.entity.PaymentStatus;
+import com.example.livealone.payment.entity.QPayment;
+import com.example.livealone.product.entity.QProduct;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentRepositoryQueryImpl implements PaymentRepositoryQuery {
+
+	private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss");
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	/**
+	 * 결제 완료 내역 커서 조회. (결제 시각, 결제 ID) 내림차순으로 cursor 결제 다음부터 목록에 필요한 컬럼만 조회합니다.
+	 * 결제 ID는 테이블 generator 가 서버별로 구간을 나눠 주므로 생성 순서와 같지 않아, 결제 시각을 먼저 비교합니다.
+	 */
+	@Override
+	public CursorPageDto<PaymentInfoDto> findCompletedPaymentsByUserIdAndCursor(Long userId, Long cursor, int size) {
+		QPayment payment = QPayment.payment;
+		QOrder order = QOrder.order;
+		QProduct product = QProduct.product;
+
+		BooleanExpression after = null;
+		if (cursor != null) {
+			LocalDateTime cursorCreatedAt = jpaQueryFactory.select(payment.createdAt)
+				.from(payment)
+				.where(payment.id.eq(cursor))
+				.fetchOne();
+			if (cursorCreatedAt == null) {
+				return CursorPageDto.of(List.of(), size, PaymentInfoDto::getPaymentId);
+			}
+			after = payment.createdAt.lt(cursorCreatedAt)
+				.or(payment.createdAt.eq(cursorCreatedAt).and(payment.id.lt(cursor)));
+		}
+
+		List<PaymentInfoDto> content = jpaQueryFactory.select(
+				payment.id,
+				payment.amount,
+				payment.paymentMethod,
+				payment.createdAt,
+				product.name,
+				order.quantity
+			)
+			.from(payment)
+			.innerJoin(payment.order, order)
+			.innerJoin(order.product, product)
+			.where(payment.user.id.eq(userId),
+				payment.status.eq(PaymentStatus.COMPLETED),
+				after)
+			.orderBy(payment.createdAt.desc(), payment.id.desc())
+			.limit(size + 1)
+			.fetch()
+			.stream()
+			.map(tuple -> PaymentInfoDto.builder()
+				.paymentId(tuple.get(payment.id))
+				.amount(tuple.get(payment.amount))
+				.status(PaymentStatus.COMPLETED.name())
+				.paymentMethod(tuple.get(payment.paymentMethod).name())
+				.createdAt(tuple.get(payment.createdAt).format(CREATED_AT_FORMAT))
+				.productName(tuple.get(product.name))
+				.quantity(tuple.get(order.quantity))
+				.build())
+			.toList();
+
+		return CursorPageDto.of(content, size, PaymentInfoDto::getPaymentId);
+	}
+}
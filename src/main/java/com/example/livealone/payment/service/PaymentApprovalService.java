@@ -0,0 +1,153 @@
+package com.example.livealone.payment.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.livealone.payment.dto.PaymentResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오페이 결제 승인 중복 제거
+ *
+ * 같은 주문의 승인 요청은 Redis 상태(PROCESSING -> 결과 JSON)로 한 번만 PG에 보내고,
+ * 중복 요청은 진행 중인 결과를 기다렸다가 같은 응답을 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentApprovalService {
+
+	private static final String REDIS_APPROVAL_KEY = "PaymentApproval:";
+	private static final String PROCESSING = "PROCESSING";
+
+	private final PaymentService paymentService;
+	private final RedissonClient redissonClient;
+	private final ObjectMapper objectMapper;
+
+	private final ConcurrentHashMap<Long, CompletableFuture<PaymentResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+	@Value("${payment.approval.processing-ttl:30000}")
+	private long processingTtl;
+
+	@Value("${payment.approval.result-ttl:600000}")
+	private long resultTtl;
+
+	@Value("${payment.approval.wait-time:6000}")
+	private long waitTime;
+
+	@Value("${payment.approval.poll-interval:100}")
+	private long pollInterval;
+
+	/**
+	 * 카카오페이 결제 승인 (주문 ID 기준 멱등)
+	 *
+	 * 승인은 요청 구독과 분리해서 끝까지 진행합니다. 클라이언트가 끊겨도 PG 호출이 중간에 취소되지 않습니다.
+	 *
+	 * @param pgToken 결제 승인 토큰
+	 * @param orderId 주문 ID
+	 * @param userId  사용자 ID
+	 * @return 결제 응답 DTO
+	 */
+	public Mono<PaymentResponseDto> approveKakaoPayPayment(String pgToken, Long orderId, Long userId) {
+		CompletableFuture<PaymentResponseDto> future = new CompletableFuture<>();
+		CompletableFuture<PaymentResponseDto> running = inFlight.putIfAbsent(orderId, future);
+		if (running != null) {
+			log.debug("같은 서버에서 진행 중인 결제 승인 대기 : {}", orderId);
+			return await(running, orderId);
+		}
+
+		Mono.defer(() -> approveOnce(pgToken, orderId, userId))
+			.doFinally(signal -> inFlight.remove(orderId, future))
+			.subscribe(future::complete, future::completeExceptionally);
+
+		return Mono.fromFuture(future, true);
+	}
+
+	private Mono<PaymentResponseDto> approveOnce(String pgToken, Long orderId, Long userId) {
+		RBucket<String> state = redissonClient.getBucket(REDIS_APPROVAL_KEY + orderId, StringCodec.INSTANCE);
+
+		if (!state.setIfAbsent(PROCESSING, Duration.ofMillis(processingTtl))) {
+			log.debug("다른 요청이 처리 중이거나 처리한 결제 승인 : {}", orderId);
+			return waitForResult(state, orderId, System.currentTimeMillis() + waitTime);
+		}
+
+		return Mono.defer(() -> paymentService.approveKakaoPayPayment(pgToken, orderId, userId))
+			.doOnNext(response -> saveResult(state, response))
+			.doOnError(e -> state.delete());
+	}
+
+	private void saveResult(RBucket<String> state, PaymentResponseDto response) {
+		// 승인 결과를 확인하지 못한 결제는 processing-ttl 동안 PROCESSING 으로 두어 PG 승인을 다시 보내지 않습니다.
+		if (PROCESSING.equals(response.getStatus())) {
+			return;
+		}
+
+		try {
+			state.set(objectMapper.writeValueAsString(response), resultTtl, TimeUnit.MILLISECONDS);
+		} catch (JsonProcessingException e) {
+			log.error("결제 승인 결과 저장 실패 : {}", e.getMessage());
+			state.delete();
+		}
+	}
+
+	private Mono<PaymentResponseDto> waitForResult(RBucket<String> state, Long orderId, long deadline) {
+		return Mono.fromCompletionStage(state::getAsync)
+			.map(value -> {
+				if (!PROCESSING.equals(value)) {
+					return Mono.just(parse(value, orderId));
+				}
+				if (System.currentTimeMillis() >= deadline) {
+					return Mono.just(processing(orderId));
+				}
+				return Mono.delay(Duration.ofMillis(pollInterval))
+					.then(Mono.defer(() -> waitForResult(state, orderId, deadline)));
+			})
+			// 선행 요청이 예외로 끝나 상태가 지워진 경우
+			.defaultIfEmpty(Mono.fromSupplier(() -> failed(orderId)))
+			.flatMap(result -> result);
+	}
+
+	private Mono<PaymentResponseDto> await(CompletableFuture<PaymentResponseDto> running, Long orderId) {
+		return Mono.fromFuture(running, true)
+			.timeout(Duration.ofMillis(waitTime), Mono.fromSupplier(() -> processing(orderId)))
+			.onErrorResume(e -> Mono.just(failed(orderId)));
+	}
+
+	private PaymentResponseDto parse(String value, Long orderId) {
+		try {
+			return objectMapper.readValue(value, PaymentResponseDto.class);
+		} catch (JsonProcessingException e) {
+			log.error("결제 승인 결과 파싱 실패 : {}", e.getMessage());
+			return processing(orderId);
+		}
+	}
+
+	private PaymentResponseDto processing(Long orderId) {
+		return PaymentResponseDto.builder()
+			.status(PROCESSING)
+			.message("결제 승인 처리 중")
+			.orderId(orderId)
+			.build();
+	}
+
+	private PaymentResponseDto failed(Long orderId) {
+		return PaymentResponseDto.builder()
+			.status("FAILED")
+			.message("결제 승인 실패")
+			.orderId(orderId)
+			.build();
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.livealone.payment.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.livealone.global.aop.DistributedLock;
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.order.repository.OrderRepository;
+import com.example.livealone.order.service.OrderHoldService;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import com.example.livealone.outbox.service.OutboxService;
+import com.example.livealone.payment.entity.Payment;
+import com.example.livealone.payment.repository.PaymentRepository;
+import com.example.livealone.product.entity.Product;
+import com.example.livealone.product.service.StockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 실패/취소 시 주문 삭제와 재고 복구
+ *
+ * PaymentService 안에서 직접 호출하면 프록시를 거치지 않아 분산 락이 걸리지 않으므로 별도 빈으로 둡니다.
+ * 만료 스케쥴러 등이 이미 지운 주문은 롤백이 끝난 것으로 보고 그냥 돌아갑니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRollbackService {
+
+	private final OrderRepository orderRepository;
+	private final PaymentRepository paymentRepository;
+	private final StockService stockService;
+	private final OrderHoldService orderHoldService;
+	private final OutboxService outboxService;
+	private final TransactionTemplate transactionTemplate;
+
+	@DistributedLock(key = "'rollbackAndDeleteOrder-' + #orderId")
+	public void rollbackAndDeleteOrder(Long orderId) {
+		Optional<Order> found = orderRepository.findByIdWithProduct(orderId);
+		if (found.isEmpty()) {
+			log.debug("이미 삭제된 주문 : {}", orderId);
+			return;
+		}
+		Order order = found.get();
+		Product product = order.getProduct();
+
+		// 재고 점유를 먼저 가져온 쪽만 재고를 복구합니다. 만료 스케쥴러가 가져갔으면 스케쥴러가 처리합니다.
+		if (!orderHoldService.release(orderId)) {
+			log.debug("이미 만료 처리 중인 주문 : {}", orderId);
+			return;
+		}
+
+		Payment payment = paymentRepository.findByOrder_Id(orderId);
+
+		// 주문 삭제
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				outboxService.appendOrderEvent(OutboxEventType.ORDER_CANCELED, order);
+				if (payment != null) {
+					paymentRepository.delete(payment);
+				}
+				orderRepository.delete(order);
+			});
+		} catch (RuntimeException e) {
+			// 삭제하지 못한 주문은 다시 점유로 등록해서 만료 스케쥴러가 정리하도록 합니다.
+			orderHoldService.hold(orderId);
+			throw e;
+		}
+
+		// 재고 롤백
+		stockService.release(product.getId(), order.getQuantity());
+	}
+}
@@ -5,26 +5,27 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
-import com.example.livealone.global.aop.DistributedLock;
 import com.example.livealone.global.config.URIConfig;
+import com.example.livealone.global.dto.CursorPageDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import com.example.livealone.order.entity.Order;
 import com.example.livealone.order.repository.OrderRepository;
-import com.example.livealone.order.service.OrderService;
+import com.example.livealone.order.service.OrderHoldService;
+import com.example.livealone.outbox.entity.OutboxEventType;
+import com.example.livealone.outbox.service.OutboxService;
+import com.example.livealone.payment.client.PaymentGatewayClient;
 import com.example.livealone.payment.dto.PaymentHistoryDto;
 import com.example.livealone.payment.dto.PaymentInfoDto;
 import com.example.livealone.payment.dto.PaymentRequestDto;
@@ -33,37 +34,40 @@ import com.example.livealone.payment.entity.Payment;
 import com.example.livealone.payment.entity.PaymentMethod;
 import com.example.livealone.payment.entity.PaymentStatus;
 import com.example.livealone.payment.repository.PaymentRepository;
-import com.example.livealone.product.entity.Product;
-import com.example.livealone.product.service.ProductService;
 import com.example.livealone.user.entity.User;
 import com.example.livealone.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
 
+	private static final int PAYMENT_HISTORY_PAGE_SIZE = 5;
+
+	private static final String KAKAO_APPROVED_STATUS = "SUCCESS_PAYMENT";
+	private static final Set<String> KAKAO_NOT_APPROVED_STATUSES = Set.of(
+		"CANCEL_PAYMENT", "FAIL_AUTH_PASSWORD", "QUIT_PAYMENT", "FAIL_PAYMENT");
+
 	private final PaymentRepository paymentRepository;
 	private final UserRepository userRepository;
 	private final OrderRepository orderRepository;
-	private final RestTemplate restTemplate;
-	private final ObjectMapper objectMapper;
-	private final ProductService productService;
-	private final OrderService orderService;
+	private final PaymentGatewayClient paymentGatewayClient;
+	private final OrderHoldService orderHoldService;
+	private final OutboxService outboxService;
+	private final TransactionTemplate transactionTemplate;
+	private final PaymentRollbackService paymentRollbackService;
 
 	private final URIConfig uriConfig;
 
 	@Value("${payment.kakao.cid}")
 	private String cid;
 
-	@Value("${payment.kakao.secret-key}")
-	private String secretKey;
-
 	@Value("${payment.kakao.approval-url}")
 	private String approvalUrl;
 
@@ -91,19 +95,12 @@ public class PaymentService {
 	@Value("${PROTOCOL}")
 	private String protocol;
 
-	public PaymentResponseDto createKakaoPayReady(PaymentRequestDto requestDto) {
+	public Mono<PaymentResponseDto> createKakaoPayReady(PaymentRequestDto requestDto) {
 		// Ready API -> 성공 시 next url 리턴 -> 프론트에서 결제 진행 -> 사용자가 결제 수단 선택 후 비밀번호 인증까지 마치면 결제 대기 화면은 결제 준비 API 요청시
 		// 전달 받은 approval_url에 pg_token 파라미터를 붙여 대기화면을 approval_url로 redirect
 		// 인증완료 시 응답받은 pg_token과 tid로 최종 승인요청 -> online/v1/payment/approve
 
-		String url = "https://open-api.kakaopay.com/online/v1/payment/ready";
-
-		log.debug("Create Kakao pay ready 진입 URI :{} ", url);
-
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-		headers.set("Authorization", "SECRET_KEY " + secretKey);
-		headers.set("Content-type", "application/json"); // 500 에러 해결 지점
+		log.debug("Create Kakao pay ready 진입");
 
 		HashMap<String, String> params = new HashMap<>();
 		params.put("cid", "TC0ONETIME");
@@ -125,94 +122,80 @@ public class PaymentService {
 		params.put("cancel_url", failCancelUrl);
 		params.put("fail_url", failCancelUrl);
 
-		HttpEntity<HashMap<String, String>> request = new HttpEntity<>(params, headers);
+		return paymentGatewayClient.kakaoReady(params)
+			.publishOn(Schedulers.boundedElastic())
+			.flatMap(jsonNode -> saveKakaoReadyPayment(requestDto, jsonNode))
+			.onErrorResume(e -> {
+				log.error("카카오페이 결제 준비 실패 orderId : {}, {}", requestDto.getOrderId(), e.getMessage());
+				return rollbackAndFail(requestDto.getOrderId(), "결제 준비 실패");
+			});
+	}
 
-		try {
-			ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, request, String.class);
-
-			JsonNode jsonNode = objectMapper.readTree(response.getBody());
-
-			User user = userRepository.findById(requestDto.getUserId())
-				.orElseThrow(() -> new IllegalArgumentException("Invalid user ID: " + requestDto.getUserId()));
-
-			Order order = orderRepository.findById(requestDto.getOrderId())
-				.orElseThrow(() -> new IllegalArgumentException("Invalid order ID: " + requestDto.getOrderId()));
-
-			String tid = jsonNode.get("tid").asText();
-
-			if (paymentRepository.existsByTid(tid)) {
-				rollbackAndDeleteOrder(requestDto.getOrderId());
-				return PaymentResponseDto.builder()
-					.status("FAILED")
-					.message("결제 준비 실패: 중복된 TID")
-					.build();
-			}
-
-			Payment payment = Payment.builder()
-				.user(user)
-				.order(order)
-				.amount(requestDto.getAmount())
-				.paymentMethod(PaymentMethod.KAKAO_PAY)
-				.status(PaymentStatus.REQUESTED)
-				.tid(tid)
-				.orderQuantity(requestDto.getOrderQuantity())
-				.shippingAddress(requestDto.getShippingAddress())
-				.deliveryRequest(requestDto.getDeliveryRequest())
-				.build();
+	private Mono<PaymentResponseDto> saveKakaoReadyPayment(PaymentRequestDto requestDto, JsonNode jsonNode) {
+		User user = userRepository.findById(requestDto.getUserId())
+			.orElseThrow(() -> new IllegalArgumentException("Invalid user ID: " + requestDto.getUserId()));
 
-			paymentRepository.save(payment);
+		Order order = orderRepository.findById(requestDto.getOrderId())
+			.orElseThrow(() -> new IllegalArgumentException("Invalid order ID: " + requestDto.getOrderId()));
 
-			return PaymentResponseDto.builder()
-				.status("READY")
-				.message("결제 준비 완료")
-				.paymentId(payment.getId())
-				.userId(requestDto.getUserId())
-				.orderId(requestDto.getOrderId())
-				.amount(requestDto.getAmount())
-				.paymentMethod(requestDto.getPaymentMethod())
-				.createdAt(payment.getCreatedAt().toString())
-				.nextRedirectUrl(jsonNode.get("next_redirect_pc_url").asText())
-				.build();
-
-		} catch (Exception e) {
-			e.printStackTrace();
-			rollbackAndDeleteOrder(requestDto.getOrderId());
-			return PaymentResponseDto.builder()
-				.status("FAILED")
-				.message("결제 준비 실패")
-				.build();
+		String tid = jsonNode.get("tid").asText();
+
+		if (paymentRepository.existsByTid(tid)) {
+			return rollbackAndFail(requestDto.getOrderId(), "결제 준비 실패: 중복된 TID");
 		}
+
+		Payment payment = Payment.builder()
+			.user(user)
+			.order(order)
+			.amount(requestDto.getAmount())
+			.paymentMethod(PaymentMethod.KAKAO_PAY)
+			.status(PaymentStatus.REQUESTED)
+			.tid(tid)
+			.orderQuantity(requestDto.getOrderQuantity())
+			.shippingAddress(requestDto.getShippingAddress())
+			.deliveryRequest(requestDto.getDeliveryRequest())
+			.build();
+
+		paymentRepository.save(payment);
+
+		return Mono.just(PaymentResponseDto.builder()
+			.status("READY")
+			.message("결제 준비 완료")
+			.paymentId(payment.getId())
+			.userId(requestDto.getUserId())
+			.orderId(requestDto.getOrderId())
+			.amount(requestDto.getAmount())
+			.paymentMethod(requestDto.getPaymentMethod())
+			.createdAt(payment.getCreatedAt().toString())
+			.nextRedirectUrl(jsonNode.get("next_redirect_pc_url").asText())
+			.build());
 	}
 
 	/**
 	 * 카카오페이 결제 승인
 	 *
+	 * 승인 응답을 받지 못한 경우(제한 시간 초과, 연결 오류)에는 PG 에서 이미 승인했을 수 있으므로 주문을 바로 지우지 않고
+	 * 결제 상태를 조회합니다. 조회로도 확인하지 못하면 PG 에 결제 취소를 요청하고, 취소도 실패하면 주문을 그대로 두고 PROCESSING 을 반환합니다.
+	 *
 	 * @param pgToken 결제 승인 토큰
 	 * @param orderId 주문 ID
 	 * @param userId  사용자 ID
 	 * @return 결제 응답 DTO
 	 */
-	@Transactional
-	public PaymentResponseDto approveKakaoPayPayment(String pgToken, Long orderId, Long userId) {
-		String url = "https://open-api.kakaopay.com/online/v1/payment/approve";
-
+	public Mono<PaymentResponseDto> approveKakaoPayPayment(String pgToken, Long orderId, Long userId) {
 		log.debug("Approve Kakao payment");
 		log.debug("pgToken : {}", pgToken);
 		log.debug("orderId : {}", orderId);
 		log.debug("userID : {}", userId);
 
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-		headers.set("Authorization", "SECRET_KEY " + secretKey);
-		headers.set("Content-type", "application/json");
-
 		Payment payment = paymentRepository.findByOrder_Id(orderId);
 		if (payment == null) {
-			rollbackAndDeleteOrder(orderId);
-			return PaymentResponseDto.builder()
-				.status("FAILED")
-				.message("Invalid order ID: " + orderId)
-				.build();
+			return rollbackAndFail(orderId, "Invalid order ID: " + orderId);
+		}
+
+		// 이미 승인된 결제는 PG를 다시 호출하지 않습니다.
+		if (payment.getStatus() == PaymentStatus.COMPLETED) {
+			return Mono.just(completedResponse(payment, orderId, userId, null, null));
 		}
 
 		Map<String, String> params = new HashMap<>();
@@ -222,38 +205,125 @@ public class PaymentService {
 		params.put("partner_user_id", userId.toString());
 		params.put("pg_token", pgToken);
 
-		HttpEntity<Map<String, String>> request = new HttpEntity<>(params, headers);
+		log.debug("Send Request");
+		return paymentGatewayClient.kakaoApprove(params)
+			.publishOn(Schedulers.boundedElastic())
+			.map(jsonNode -> {
+				log.debug("jsonNode : {}", jsonNode);
+				return completeKakaoPayment(payment, orderId, userId, jsonNode);
+			})
+			.onErrorResume(e -> {
+				log.debug(e.getMessage());
+				if (isUnknownResult(e)) {
+					return inquireKakaoPayment(payment, orderId, userId);
+				}
+				return rollbackAndFail(orderId, "결제 승인 실패");
+			});
+	}
 
-		try {
-			log.debug("Send Request");
-			ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, request, String.class);
-			JsonNode jsonNode = objectMapper.readTree(response.getBody());
+	/**
+	 * 제한 시간 초과/연결 오류는 요청이 PG 에 닿았는지 알 수 없습니다.
+	 * 서킷 브레이커/벌크헤드 거절과 PG 의 오류 응답은 승인되지 않은 것이 확실합니다.
+	 */
+	private boolean isUnknownResult(Throwable e) {
+		return e instanceof TimeoutException || e instanceof WebClientRequestException;
+	}
 
-			log.debug("jsonNode : {}", jsonNode);
+	private Mono<PaymentResponseDto> inquireKakaoPayment(Payment payment, Long orderId, Long userId) {
+		Map<String, String> params = new HashMap<>();
+		params.put("cid", cid);
+		params.put("tid", payment.getTid());
 
-			payment.updateStatus(PaymentStatus.COMPLETED);
-			paymentRepository.save(payment);
+		return paymentGatewayClient.kakaoInquiry(params)
+			.publishOn(Schedulers.boundedElastic())
+			.flatMap(jsonNode -> {
+				String status = jsonNode.path("status").asText("");
+				log.debug("카카오페이 결제 상태 orderId : {}, status : {}", orderId, status);
+				if (KAKAO_APPROVED_STATUS.equals(status)) {
+					return Mono.just(completeKakaoPayment(payment, orderId, userId, jsonNode));
+				}
+				if (KAKAO_NOT_APPROVED_STATUSES.contains(status)) {
+					return rollbackAndFail(orderId, "결제 승인 실패");
+				}
+				return requestKakaoCancel(payment, orderId);
+			})
+			.onErrorResume(e -> {
+				log.warn("카카오페이 결제 상태 조회 실패 orderId : {}, {}", orderId, e.getMessage());
+				return requestKakaoCancel(payment, orderId);
+			});
+	}
 
-			return PaymentResponseDto.builder()
-				.status("COMPLETED")
-				.message("결제 완료")
-				.paymentId(orderId)
-				.userId(userId)
-				.orderId(orderId)
-				.amount(payment.getAmount())
-				.paymentMethod(payment.getPaymentMethod().name())
-				.createdAt(jsonNode.get("created_at").asText())
-				.updatedAt(jsonNode.get("approved_at").asText())
-				.build();
-
-		} catch (Exception e) {
-			rollbackAndDeleteOrder(orderId);
-			log.debug(e.getMessage());
-			return PaymentResponseDto.builder()
-				.status("FAILED")
-				.message("결제 승인 실패")
-				.build();
+	private Mono<PaymentResponseDto> requestKakaoCancel(Payment payment, Long orderId) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("cid", cid);
+		params.put("tid", payment.getTid());
+		params.put("cancel_amount", payment.getAmount() * payment.getOrderQuantity());
+		params.put("cancel_tax_free_amount", 0);
+
+		return paymentGatewayClient.kakaoCancel(params)
+			.publishOn(Schedulers.boundedElastic())
+			.flatMap(jsonNode -> rollbackAndFail(orderId, "결제 승인 실패"))
+			.onErrorResume(e -> {
+				// 승인 여부를 확인하지 못한 주문은 지우지 않고 대사(reconciliation) 대상으로 남깁니다.
+				log.error("카카오페이 결제 승인 결과 확인 실패, 주문 유지 orderId : {}, {}", orderId, e.getMessage());
+				return Mono.just(PaymentResponseDto.builder()
+					.status("PROCESSING")
+					.message("결제 승인 처리 중")
+					.orderId(orderId)
+					.build());
+			});
+	}
+
+	private PaymentResponseDto completeKakaoPayment(Payment payment, Long orderId, Long userId, JsonNode jsonNode) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Payment completed = paymentRepository.findByOrder_Id(orderId);
+				completed.updateStatus(PaymentStatus.COMPLETED);
+				outboxService.appendPaymentEvent(OutboxEventType.PAYMENT_COMPLETED, completed);
+			});
+			orderHoldService.release(orderId);
+		} catch (RuntimeException e) {
+			// PG 승인 이후에 난 예외는 주문을 되돌리지 않습니다.
+			log.error("PG 승인 후 결제 완료 처리 실패 orderId : {}, {}", orderId, e.getMessage());
 		}
+
+		return completedResponse(payment, orderId, userId, jsonNode.path("created_at").asText(null),
+			jsonNode.path("approved_at").asText(null));
+	}
+
+	/**
+	 * 주문을 롤백하고 FAILED 를 반환합니다. 롤백에 실패해도 응답은 FAILED 로 두고,
+	 * 남은 주문은 재고 점유가 만료되면 스케쥴러가 정리합니다.
+	 */
+	private Mono<PaymentResponseDto> rollbackAndFail(Long orderId, String message) {
+		return Mono.fromRunnable(() -> paymentRollbackService.rollbackAndDeleteOrder(orderId))
+			.onErrorResume(e -> {
+				log.error("결제 실패 주문 롤백 실패 orderId : {}, {}", orderId, e.getMessage());
+				return Mono.empty();
+			})
+			.thenReturn(failed(message));
+	}
+
+	private PaymentResponseDto failed(String message) {
+		return PaymentResponseDto.builder()
+			.status("FAILED")
+			.message(message)
+			.build();
+	}
+
+	private PaymentResponseDto completedResponse(Payment payment, Long orderId, Long userId, String createdAt,
+		String updatedAt) {
+		return PaymentResponseDto.builder()
+			.status("COMPLETED")
+			.message("결제 완료")
+			.paymentId(orderId)
+			.userId(userId)
+			.orderId(orderId)
+			.amount(payment.getAmount())
+			.paymentMethod(payment.getPaymentMethod().name())
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
+			.build();
 	}
 
 	/**
@@ -262,7 +332,7 @@ public class PaymentService {
 	 */
 	@Transactional
 	public void cancelKakaoPayment(Long orderId) {
-		rollbackAndDeleteOrder(orderId);
+		paymentRollbackService.rollbackAndDeleteOrder(orderId);
 	}
 
 	/**
@@ -271,13 +341,8 @@ public class PaymentService {
 	 * @param requestDto 결제 요청 DTO
 	 * @return 결제 응답 DTO
 	 */
-	public PaymentResponseDto createTossPayReady(PaymentRequestDto requestDto) {
-		String url = "https://pay.toss.im/api/v2/payments";
-
-		log.debug("Toss pay read : {}", url);
-
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.APPLICATION_JSON);
+	public Mono<PaymentResponseDto> createTossPayReady(PaymentRequestDto requestDto) {
+		log.debug("Toss pay ready");
 
 		Map<String, Object> params = new HashMap<>();
 		String createOrderNo = String.format("livealone:%d", requestDto.getOrderId()) + ":" + LocalDate.now();
@@ -300,81 +365,56 @@ public class PaymentService {
 
 		log.debug("request : {}", params);
 
-		HttpEntity<Map<String, Object>> request = new HttpEntity<>(params, headers);
-
-		try {
-			log.debug("Send Request");
-			ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, request, String.class);
-
-			JsonNode jsonNode = objectMapper.readTree(response.getBody());
-			log.debug("jsonNode : {}", jsonNode);
-
-			// 필드 존재 여부 체크
-			if (jsonNode.has("payToken") && jsonNode.has("checkoutPage")) {
-				User user = userRepository.findById(requestDto.getUserId())
-					.orElseThrow(() -> new IllegalArgumentException("Invalid user ID: " + requestDto.getUserId()));
-
-				Order order = orderRepository.findById(requestDto.getOrderId())
-					.orElseThrow(() -> new IllegalArgumentException("Invalid order ID: " + requestDto.getOrderId()));
-
-				Payment payment = Payment.builder()
-					.user(user)
-					.order(order)
-					.amount(requestDto.getAmount())
-					.paymentMethod(PaymentMethod.TOSS_PAY)
-					.status(PaymentStatus.REQUESTED)
-					.tid(jsonNode.get("payToken").asText())
-					.orderQuantity(requestDto.getOrderQuantity())
-					.shippingAddress(requestDto.getShippingAddress())
-					.deliveryRequest(requestDto.getDeliveryRequest())
-					.build();
-
-				paymentRepository.save(payment);
-
-				return PaymentResponseDto.builder()
-					.status("READY")
-					.message("결제 준비 완료")
-					.paymentId(payment.getId())
-					.userId(requestDto.getUserId())
-					.orderId(requestDto.getOrderId())
-					.amount(requestDto.getAmount())
-					.paymentMethod(requestDto.getPaymentMethod())
-					.createdAt(payment.getCreatedAt().toString())
-					.nextRedirectUrl(jsonNode.get("checkoutPage").asText())
-					.build();
-			} else {
-				rollbackAndDeleteOrder(requestDto.getOrderId());
-				return PaymentResponseDto.builder()
-					.status("FAILED")
-					.message("결제 준비 실패: 필요한 필드가 응답에 없습니다.")
-					.build();
-			}
-		} catch (Exception e) {
-			e.printStackTrace();
-			rollbackAndDeleteOrder(requestDto.getOrderId());
-			return PaymentResponseDto.builder()
-				.status("FAILED")
-				.message("결제 준비 실패")
-				.build();
-		}
+		log.debug("Send Request");
+		return paymentGatewayClient.tossReady(params)
+			.publishOn(Schedulers.boundedElastic())
+			.flatMap(jsonNode -> {
+				log.debug("jsonNode : {}", jsonNode);
+				return saveTossReadyPayment(requestDto, jsonNode);
+			})
+			.onErrorResume(e -> {
+				log.error("토스페이 결제 준비 실패 orderId : {}, {}", requestDto.getOrderId(), e.getMessage());
+				return rollbackAndFail(requestDto.getOrderId(), "결제 준비 실패");
+			});
 	}
 
-	@DistributedLock(key = "'rollbackAndDeleteOrder-' + #orderId")
-	public void rollbackAndDeleteOrder(Long orderId) {
-		Order order = orderRepository.findByIdWithProduct(orderId)
-			.orElseThrow(() -> new IllegalArgumentException("Invalid order ID: " + orderId));
-		Product product = order.getProduct();
-
-		Payment payment = paymentRepository.findByOrder_Id(orderId);
+	private Mono<PaymentResponseDto> saveTossReadyPayment(PaymentRequestDto requestDto, JsonNode jsonNode) {
+		// 필드 존재 여부 체크
+		if (!jsonNode.has("payToken") || !jsonNode.has("checkoutPage")) {
+			return rollbackAndFail(requestDto.getOrderId(), "결제 준비 실패: 필요한 필드가 응답에 없습니다.");
+		}
 
-		// 재고 롤백
-		product.rollbackStock(order.getQuantity());
-		orderService.updateCacheProduct(product);
-		productService.saveProduct(product);
+		User user = userRepository.findById(requestDto.getUserId())
+			.orElseThrow(() -> new IllegalArgumentException("Invalid user ID: " + requestDto.getUserId()));
+
+		Order order = orderRepository.findById(requestDto.getOrderId())
+			.orElseThrow(() -> new IllegalArgumentException("Invalid order ID: " + requestDto.getOrderId()));
+
+		Payment payment = Payment.builder()
+			.user(user)
+			.order(order)
+			.amount(requestDto.getAmount())
+			.paymentMethod(PaymentMethod.TOSS_PAY)
+			.status(PaymentStatus.REQUESTED)
+			.tid(jsonNode.get("payToken").asText())
+			.orderQuantity(requestDto.getOrderQuantity())
+			.shippingAddress(requestDto.getShippingAddress())
+			.deliveryRequest(requestDto.getDeliveryRequest())
+			.build();
 
-		// 주문 삭제
-		paymentRepository.delete(payment);
-		orderRepository.delete(order);
+		paymentRepository.save(payment);
+
+		return Mono.just(PaymentResponseDto.builder()
+			.status("READY")
+			.message("결제 준비 완료")
+			.paymentId(payment.getId())
+			.userId(requestDto.getUserId())
+			.orderId(requestDto.getOrderId())
+			.amount(requestDto.getAmount())
+			.paymentMethod(requestDto.getPaymentMethod())
+			.createdAt(payment.getCreatedAt().toString())
+			.nextRedirectUrl(jsonNode.get("checkoutPage").asText())
+			.build());
 	}
 
 	@Transactional
@@ -394,9 +434,11 @@ public class PaymentService {
 		if (status.equals("PAY_COMPLETE")) {
 			payment.updateStatus(PaymentStatus.COMPLETED);
 			paymentRepository.save(payment);
+			outboxService.appendPaymentEvent(OutboxEventType.PAYMENT_COMPLETED, payment);
+			orderHoldService.release(orderId);
 		} else {
 			payment.updateStatus(PaymentStatus.FAILED);
-			rollbackAndDeleteOrder(payment.getOrder().getId());
+			paymentRollbackService.rollbackAndDeleteOrder(payment.getOrder().getId());
 		}
 
 		String url = String.format("%s://%s/completepayment", protocol, uriConfig.getFrontServerHost());
@@ -415,7 +457,7 @@ public class PaymentService {
 		}
 
 		payment.updateStatus(PaymentStatus.FAILED);
-		rollbackAndDeleteOrder(payment.getOrder().getId());
+		paymentRollbackService.rollbackAndDeleteOrder(payment.getOrder().getId());
 
 		String url = String.format("%s://%s/streaming", protocol, uriConfig.getFrontServerHost());
 		return url;
@@ -428,7 +470,7 @@ public class PaymentService {
 	 * @return 결제 내역 리스트
 	 */
 	public PaymentHistoryDto getCompletedPaymentsByUserId(Long userId, int page, int size) {
-		Pageable pageable = PageRequest.of(page, 5);
+		Pageable pageable = PageRequest.of(page, PAYMENT_HISTORY_PAGE_SIZE);
 		Page<Payment> paymentPage = paymentRepository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, PaymentStatus.COMPLETED, pageable);
 
 		List<PaymentInfoDto> paymentHistoryList = paymentPage.getContent().stream()
@@ -450,4 +492,15 @@ public class PaymentService {
 			.contents(paymentHistoryList)
 			.build();
 	}
+
+	/**
+	 * 사용자별 결제 완료 내역 커서 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @return 결제 내역 리스트
+	 */
+	public CursorPageDto<PaymentInfoDto> getCompletedPaymentsByUserIdAndCursor(Long userId, Long cursor) {
+		return paymentRepository.findCompletedPaymentsByUserIdAndCursor(userId, cursor, PAYMENT_HISTORY_PAGE_SIZE);
+	}
 }
\ No newline at end of file
@@ -2,9 +2,9 @@ package com.example.livealone.product.controller;
 
 import com.example.livealone.global.dto.CommonResponseDto;
 import com.example.livealone.global.security.UserDetailsImpl;
+import com.example.livealone.product.dto.CachedProductDto;
 import com.example.livealone.product.dto.ProductRequestDto;
 import com.example.livealone.product.dto.ProductResponseDto;
-import com.example.livealone.product.entity.Product;
 import com.example.livealone.product.mapper.ProductMapper;
 import com.example.livealone.product.service.ProductService;
 import jakarta.validation.Valid;
@@ -37,7 +37,7 @@ public class ProductController {
 
   @GetMapping("/{productId}")
   public ResponseEntity<CommonResponseDto<ProductResponseDto>> getProduct(@PathVariable Long productId) {
-    Product product = productService.findByProductId(productId);
+    CachedProductDto product = productService.getCachedProduct(productId);
     ProductResponseDto productResponseDto = ProductMapper.toProductResponseDto(product);
     CommonResponseDto<ProductResponseDto> responseDto = new CommonResponseDto<>(HttpStatus.OK.value(), "상품 정보 조회 성공", productResponseDto);
 
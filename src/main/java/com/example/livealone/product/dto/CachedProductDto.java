@@ -0,0 +1,30 @@
+package com.example.livealone.product.dto;
+
+import com.example.livealone.product.entity.Product;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 캐시(TwoTierCache)에 보관하는 불변 상품 정보
+ * 여러 요청 스레드가 같은 인스턴스를 공유하므로 재고 변경은 withQuantity 로 새 객체를 만들어 캐시에 다시 넣습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedProductDto {
+
+  private final Long id;
+  private final String name;
+  private final int price;
+  private final Long quantity;
+  private final String introduction;
+
+  public static CachedProductDto from(Product product) {
+    return new CachedProductDto(product.getId(), product.getName(), product.getPrice(), product.getQuantity(),
+        product.getIntroduction());
+  }
+
+  public CachedProductDto withQuantity(Long quantity) {
+    return new CachedProductDto(id, name, price, quantity, introduction);
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.livealone.product.entity;
 
+import com.example.livealone.global.entity.IdSequence;
 import com.example.livealone.global.entity.Timestamp;
 import com.example.livealone.global.exception.CustomException;
 import com.example.livealone.user.entity.User;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,7 +27,9 @@ import java.util.Locale;
 public class Product extends Timestamp {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "products_id")
+	@TableGenerator(name = "products_id", table = IdSequence.TABLE, pkColumnName = IdSequence.SEGMENT_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "products", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 
 	@Column(nullable = false)
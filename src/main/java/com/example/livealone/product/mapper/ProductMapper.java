@@ -1,5 +1,6 @@
 package com.example.livealone.product.mapper;
 
+import com.example.livealone.product.dto.CachedProductDto;
 import com.example.livealone.product.dto.ProductRequestDto;
 import com.example.livealone.product.dto.ProductResponseDto;
 import com.example.livealone.product.entity.Product;
@@ -25,4 +26,14 @@ public class ProductMapper {
         .introduction(product.getIntroduction())
         .build();
   }
+
+  public static ProductResponseDto toProductResponseDto(CachedProductDto product) {
+    return ProductResponseDto.builder()
+        .id(product.getId())
+        .name(product.getName())
+        .price(product.getPrice())
+        .quantity(product.getQuantity())
+        .introduction(product.getIntroduction())
+        .build();
+  }
 }
@@ -3,6 +3,15 @@ package com.example.livealone.product.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.livealone.product.entity.Product;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProductRepository extends JpaRepository<Product,Long> {
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Product p SET p.quantity = p.quantity - :decrease WHERE p.id = :productId")
+  int decreaseQuantity(@Param("productId") Long productId, @Param("decrease") long decrease);
 }
@@ -1,6 +1,8 @@
 package com.example.livealone.product.service;
 
+import com.example.livealone.global.cache.TwoTierCache;
 import com.example.livealone.global.exception.CustomException;
+import com.example.livealone.product.dto.CachedProductDto;
 import com.example.livealone.product.dto.ProductRequestDto;
 import com.example.livealone.product.dto.ProductResponseDto;
 import com.example.livealone.product.entity.Product;
@@ -8,10 +10,7 @@ import com.example.livealone.product.mapper.ProductMapper;
 import com.example.livealone.product.repository.ProductRepository;
 import com.example.livealone.user.entity.User;
 import java.util.Locale;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -24,9 +23,9 @@ public class ProductService {
   private final ProductRepository productRepository;
 
   private final MessageSource messageSource;
-  private final RedissonClient redissonClient;
+  private final TwoTierCache<CachedProductDto> productCache;
 
-  public final static String REDIS_PRODUCT_KEY = "Product::";
+  public final static String REDIS_PRODUCT_KEY = "CachedProduct::";
 
   @Transactional
   public ProductResponseDto createProduct(User user, ProductRequestDto requestDto) {
@@ -38,24 +37,30 @@ public class ProductService {
     return ProductMapper.toProductResponseDto(saveProduct);
   }
 
-  public Product findByProductId(Long productId) {
-    RBucket<Product> bucket = redissonClient.getBucket(REDIS_PRODUCT_KEY + productId);
-    if (bucket.isExists()) {
-      return bucket.get();
-    }
-
-    Product product = productRepository.findById(productId).orElseThrow(
+  /**
+   * 캐시된 상품 정보를 반환합니다. 재고는 StockService 의 write-back 주기마다 갱신됩니다.
+   * @param productId
+   * @return 불변 상품 정보
+   */
+  public CachedProductDto getCachedProduct(Long productId) {
+    return productCache.get(REDIS_PRODUCT_KEY + productId, () -> CachedProductDto.from(
+        productRepository.findById(productId).orElseThrow(
             () -> new CustomException(messageSource.getMessage(
                     "product.not.found",
                     null,
                     CustomException.DEFAULT_ERROR_MESSAGE,
                     Locale.getDefault()
             ), HttpStatus.NOT_FOUND)
-    );
-
-    bucket.set(product, 1, TimeUnit.HOURS);
+    )));
+  }
 
-    return product;
+  /**
+   * 연관관계(FK) 지정용 상품 프록시를 조회 없이 반환합니다.
+   * @param productId
+   * @return
+   */
+  public Product getReference(Long productId) {
+    return productRepository.getReferenceById(productId);
   }
 
   public Product saveProduct(Product product) {
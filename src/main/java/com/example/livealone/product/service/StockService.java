@@ -0,0 +1,251 @@
+package com.example.livealone.product.service;
+
+import com.example.livealone.global.cache.TwoTierCache;
+import com.example.livealone.global.exception.CustomException;
+import com.example.livealone.product.dto.CachedProductDto;
+import com.example.livealone.product.entity.Product;
+import com.example.livealone.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 재고를 Redis 카운터로 관리하는 서비스
+ * 재고 차감/복구는 Lua 스크립트 한 번으로 원자적으로 처리하고, DB 반영은 주기적으로 모아서 처리합니다.
+ * 상품별 변경량을 write-back 주기 동안 합산해서 UPDATE 한 번과 상품 캐시 갱신 한 번으로 반영합니다.
+ * 변경량은 차감/복구와 같은 스크립트에서 Redis hash 에 누적하므로 서버가 죽어도 남고, 어느 서버든 한 번만 꺼내서 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+  public final static String REDIS_STOCK_KEY = "Stock::";
+  public final static String REDIS_STOCK_PENDING_KEY = "StockPending";
+
+  private static final long STOCK_NOT_LOADED = -2L;
+  private static final long STOCK_NOT_ENOUGH = -1L;
+
+  private static final String RESERVE_SCRIPT =
+      "local stock = redis.call('get', KEYS[1]) "
+          + "if stock == false then return -2 end "
+          + "if tonumber(stock) < tonumber(ARGV[1]) then return -1 end "
+          + "redis.call('hincrby', KEYS[2], ARGV[2], ARGV[1]) "
+          + "return redis.call('decrby', KEYS[1], ARGV[1])";
+
+  private static final String RELEASE_SCRIPT =
+      "if redis.call('exists', KEYS[1]) == 0 then return -2 end "
+          + "redis.call('hincrby', KEYS[2], ARGV[2], -tonumber(ARGV[1])) "
+          + "return redis.call('incrby', KEYS[1], ARGV[1])";
+
+  private static final String DRAIN_PENDING_SCRIPT =
+      "local pending = redis.call('hgetall', KEYS[1]) "
+          + "redis.call('del', KEYS[1]) "
+          + "return pending";
+
+  private static final String ADD_PENDING_SCRIPT =
+      "return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2])";
+
+  private final ProductRepository productRepository;
+
+  private final MessageSource messageSource;
+  private final RedissonClient redissonClient;
+
+  private final TwoTierCache<CachedProductDto> productCache;
+
+  @Value("${stock.snapshot.ttl:100}")
+  private long snapshotTtl;
+
+  private Cache<Long, Long> stockSnapshots;
+
+  @PostConstruct
+  public void init() {
+    stockSnapshots = Caffeine.newBuilder()
+        .expireAfterWrite(snapshotTtl, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  /**
+   * 재고를 차감(예약)하고 남은 재고를 반환합니다.
+   * @param productId
+   * @param quantity
+   * @return 차감 후 남은 재고
+   */
+  public long reserve(Long productId, int quantity) {
+    validateQuantity(quantity);
+    long remainStock = executeScript(RESERVE_SCRIPT, productId, quantity);
+
+    if (remainStock == STOCK_NOT_ENOUGH) {
+      throw new CustomException(messageSource.getMessage(
+          "no.exit.enough.product",
+          null,
+          CustomException.DEFAULT_ERROR_MESSAGE,
+          Locale.getDefault()
+      ), HttpStatus.NOT_FOUND);
+    }
+
+    stockSnapshots.put(productId, remainStock);
+    return remainStock;
+  }
+
+  /**
+   * 예약했던 재고를 복구하고 남은 재고를 반환합니다.
+   * @param productId
+   * @param quantity
+   * @return 복구 후 남은 재고
+   */
+  public long release(Long productId, int quantity) {
+    validateQuantity(quantity);
+    long remainStock = executeScript(RELEASE_SCRIPT, productId, quantity);
+
+    stockSnapshots.put(productId, remainStock);
+    return remainStock;
+  }
+
+  /**
+   * 구매 가능 여부 확인용 재고를 락 없이 반환합니다.
+   * 로컬 스냅샷을 stock.snapshot.ttl 동안 재사용하므로 다른 서버의 차감은 최대 그 시간만큼 늦게 보일 수 있습니다.
+   * 실제 차감은 reserve 에서 원자적으로 검사합니다.
+   * @param productId
+   * @return 남은 재고
+   */
+  public long getAvailableStock(Long productId) {
+    return stockSnapshots.get(productId, this::getStock);
+  }
+
+  public long getStock(Long productId) {
+    String stock = redissonClient.<String>getBucket(REDIS_STOCK_KEY + productId, StringCodec.INSTANCE).get();
+    if (stock == null) {
+      loadStock(productId);
+      return getStock(productId);
+    }
+
+    return Long.parseLong(stock);
+  }
+
+  /**
+   * 주기 동안 모인 상품별 재고 변경량을 products 테이블과 상품 캐시에 반영하는 스케쥴러 입니다.
+   * 변경량 hash 를 원자적으로 꺼내므로 여러 서버에서 돌아도 같은 변경량을 두 번 반영하지 않고,
+   * DB 반영에 실패한 변경량은 hash 에 다시 더해 다음 주기에 반영합니다.
+   */
+  @Scheduled(fixedDelayString = "${stock.write-back.interval:1000}")
+  public void writeBack() {
+    List<Object> pending = redissonClient.getScript(StringCodec.INSTANCE).eval(
+        RScript.Mode.READ_WRITE,
+        DRAIN_PENDING_SCRIPT,
+        RScript.ReturnType.MULTI,
+        Collections.singletonList(REDIS_STOCK_PENDING_KEY)
+    );
+
+    for (int i = 0; i + 1 < pending.size(); i += 2) {
+      Long productId = Long.valueOf(String.valueOf(pending.get(i)));
+      long decrease = Long.parseLong(String.valueOf(pending.get(i + 1)));
+      if (decrease == 0) {
+        continue;
+      }
+
+      try {
+        productRepository.decreaseQuantity(productId, decrease);
+      } catch (Exception e) {
+        log.error("재고 DB 반영 실패 productId : {}, {}", productId, e.getMessage());
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            ADD_PENDING_SCRIPT,
+            RScript.ReturnType.INTEGER,
+            Collections.singletonList(REDIS_STOCK_PENDING_KEY),
+            String.valueOf(productId),
+            String.valueOf(decrease)
+        );
+        continue;
+      }
+
+      refreshProductCache(productId);
+    }
+  }
+
+  @PreDestroy
+  public void flush() {
+    log.debug("서버 종료 전 재고 DB 반영");
+    writeBack();
+  }
+
+
+  /**
+   * 0 이하 수량은 스크립트의 재고 검사를 통과하고 decrby/incrby 방향을 뒤집으므로 막습니다.
+   */
+  private void validateQuantity(int quantity) {
+    if (quantity <= 0) {
+      throw new CustomException(messageSource.getMessage(
+          "order.quantity.invalid",
+          null,
+          CustomException.DEFAULT_ERROR_MESSAGE,
+          Locale.getDefault()
+      ), HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  private void refreshProductCache(Long productId) {
+    try {
+      String key = ProductService.REDIS_PRODUCT_KEY + productId;
+      CachedProductDto product = productCache.get(key,
+          () -> CachedProductDto.from(productRepository.findById(productId).orElseThrow()));
+      productCache.put(key, product.withQuantity(getStock(productId)));
+    } catch (Exception e) {
+      log.error("상품 캐시 갱신 실패 productId : {}, {}", productId, e.getMessage());
+    }
+  }
+
+  private long executeScript(String script, Long productId, int quantity) {
+    String key = REDIS_STOCK_KEY + productId;
+
+    Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+        RScript.Mode.READ_WRITE,
+        script,
+        RScript.ReturnType.INTEGER,
+        List.of(key, REDIS_STOCK_PENDING_KEY),
+        String.valueOf(quantity),
+        String.valueOf(productId)
+    );
+
+    if (result == STOCK_NOT_LOADED) {
+      loadStock(productId);
+      return executeScript(script, productId, quantity);
+    }
+
+    return result;
+  }
+
+  private void loadStock(Long productId) {
+    Product product = productRepository.findById(productId).orElseThrow(
+        () -> new CustomException(messageSource.getMessage(
+            "product.not.found",
+            null,
+            CustomException.DEFAULT_ERROR_MESSAGE,
+            Locale.getDefault()
+        ), HttpStatus.NOT_FOUND)
+    );
+
+    // 아직 DB 에 반영되지 않은 변경량을 빼야 Redis 카운터가 사라졌을 때 다시 팔지 않습니다.
+    String pendingDecrease = redissonClient.<String, String>getMap(REDIS_STOCK_PENDING_KEY, StringCodec.INSTANCE)
+        .get(String.valueOf(productId));
+    long stock = product.getQuantity() - (pendingDecrease == null ? 0 : Long.parseLong(pendingDecrease));
+
+    redissonClient.<String>getBucket(REDIS_STOCK_KEY + productId, StringCodec.INSTANCE)
+        .setIfAbsent(String.valueOf(stock));
+  }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import java.time.LocalDateTime;
 
+import com.example.livealone.global.entity.IdSequence;
 import com.example.livealone.global.entity.Timestamp;
 
 import jakarta.persistence.Column;
@@ -14,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +26,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "reservations")
 public class Reservations extends Timestamp {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "reservations_id")
+	@TableGenerator(name = "reservations_id", table = IdSequence.TABLE, pkColumnName = IdSequence.SEGMENT_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "reservations", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 
 	@Column(nullable = false)
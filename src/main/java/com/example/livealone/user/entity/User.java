@@ -54,6 +54,19 @@ public class User extends Timestamp {
 		this.address = address;
 	}
 
+	/**
+	 * JWT claims로 만든 인증용 User 입니다. DB에서 조회하지 않으므로 연관관계의 id 참조로만 사용합니다.
+	 */
+	public static User fromClaims(Long id, String username, String nickname, String email, UserRole role) {
+		User user = new User();
+		user.id = id;
+		user.username = username;
+		user.nickname = nickname;
+		user.email = email;
+		user.role = role;
+		return user;
+	}
+
 	public void updateUser(String nickname, LocalDate birthDay, String address) {
 		this.nickname = nickname;
 		this.birthDay = birthDay;
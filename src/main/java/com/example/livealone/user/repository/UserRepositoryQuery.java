@@ -1,6 +1,8 @@
 package com.example.livealone.user.repository;
 
+import com.example.livealone.admin.dto.AdminUserListResponseDto;
 import com.example.livealone.delivery.dto.DeliveryHistoryResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,8 @@ public interface UserRepositoryQuery {
 
     Page<DeliveryHistoryResponseDto> findDeliveryHistoryByUserId(Long userId, int page);
 
+    CursorPageDto<DeliveryHistoryResponseDto> findDeliveryHistoryByUserIdAndCursor(Long userId, Long cursor, int size);
+
+    CursorPageDto<AdminUserListResponseDto> findUserListByCursor(Long cursor, int size);
+
 }
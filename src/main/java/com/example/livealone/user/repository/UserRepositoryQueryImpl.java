@@ -1,12 +1,15 @@
 package com.example.livealone.user.repository;
 
+import com.example.livealone.admin.dto.AdminUserListResponseDto;
 import com.example.livealone.delivery.dto.DeliveryHistoryResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.order.entity.QOrder;
 import com.example.livealone.product.entity.QProduct;
 import com.example.livealone.user.entity.QUser;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -42,12 +46,13 @@ public class UserRepositoryQueryImpl implements UserRepositoryQuery {
                 Projections.constructor(DeliveryHistoryResponseDto.class,
                     order.orderStatus,
                     product.name,
-                    user.address
+                    user.address,
+                    order.id
                 )
             ).from(user)
             .where(user.id.eq(userId))
-            .innerJoin(order).on(user.id.eq(order.user.id)).fetchJoin()
-            .innerJoin(product).on(order.product.id.eq(product.id)).fetchJoin()
+            .innerJoin(order).on(user.id.eq(order.user.id))
+            .innerJoin(product).on(order.product.id.eq(product.id))
             .offset(pageRequest.getOffset())
             .limit(pageRequest.getPageSize())
             .orderBy(orderSpecifier)
@@ -57,4 +62,68 @@ public class UserRepositoryQueryImpl implements UserRepositoryQuery {
 
     }
 
+    /**
+     * 배송 내역 커서 조회. (생성 시각, 주문 ID) 내림차순으로 cursor 주문 뒤부터 size 개를 조회합니다.
+     */
+    @Override
+    public CursorPageDto<DeliveryHistoryResponseDto> findDeliveryHistoryByUserIdAndCursor(Long userId, Long cursor, int size) {
+        QUser user = QUser.user;
+        QOrder order = QOrder.order;
+        QProduct product = QProduct.product;
+
+        BooleanExpression after = null;
+        if (cursor != null) {
+            LocalDateTime cursorCreatedAt = jpaQueryFactory.select(order.createdAt)
+                .from(order)
+                .where(order.id.eq(cursor))
+                .fetchOne();
+            if (cursorCreatedAt == null) {
+                return CursorPageDto.of(List.of(), size, DeliveryHistoryResponseDto::getOrderId);
+            }
+            after = order.createdAt.lt(cursorCreatedAt)
+                .or(order.createdAt.eq(cursorCreatedAt).and(order.id.lt(cursor)));
+        }
+
+        List<DeliveryHistoryResponseDto> content = jpaQueryFactory.select(
+                Projections.constructor(DeliveryHistoryResponseDto.class,
+                    order.orderStatus,
+                    product.name,
+                    user.address,
+                    order.id
+                )
+            ).from(order)
+            .innerJoin(order.user, user)
+            .innerJoin(order.product, product)
+            .where(order.user.id.eq(userId), after)
+            .orderBy(order.createdAt.desc(), order.id.desc())
+            .limit(size + 1)
+            .fetch();
+
+        return CursorPageDto.of(content, size, DeliveryHistoryResponseDto::getOrderId);
+    }
+
+    /**
+     * 관리자 유저 목록 커서 조회. 목록에 필요한 컬럼만 조회합니다.
+     */
+    @Override
+    public CursorPageDto<AdminUserListResponseDto> findUserListByCursor(Long cursor, int size) {
+        QUser user = QUser.user;
+
+        List<AdminUserListResponseDto> content = jpaQueryFactory.select(user.id, user.username, user.role)
+            .from(user)
+            .where(cursor == null ? null : user.id.lt(cursor))
+            .orderBy(user.id.desc())
+            .limit(size + 1)
+            .fetch()
+            .stream()
+            .map(tuple -> AdminUserListResponseDto.builder()
+                .id(tuple.get(user.id))
+                .name(tuple.get(user.username))
+                .role(tuple.get(user.role))
+                .build())
+            .toList();
+
+        return CursorPageDto.of(content, size, AdminUserListResponseDto::getId);
+    }
+
 }
@@ -46,6 +46,15 @@ public class AuthService {
 
     refreshTokenRepository.delete(refreshToken);
 
+    return issueTokens(user);
+  }
+
+  /**
+   * 현재 유저 정보로 access/refresh 토큰을 새로 발급합니다. (권한 변경 등 claims 갱신이 필요할 때)
+   * @param user
+   * @return
+   */
+  public TokenResponseDto issueTokens(User user) {
     return TokenResponseDto.builder()
         .access(jwtService.generateToken(user))
         .refresh(reissueRefreshToken(user))
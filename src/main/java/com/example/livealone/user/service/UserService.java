@@ -1,7 +1,9 @@
 package com.example.livealone.user.service;
 
 import com.example.livealone.admin.dto.AdminUserListResponseDto;
+import com.example.livealone.global.dto.CursorPageDto;
 import com.example.livealone.global.exception.CustomException;
+import com.example.livealone.global.security.UserDetailsServiceImpl;
 import com.example.livealone.user.dto.UserAddressResponseDto;
 import com.example.livealone.user.dto.UserInfoRequestDto;
 import com.example.livealone.user.dto.UserInfoResponseDto;
@@ -31,6 +33,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final MessageSource messageSource;
     private final RedissonClient redissonClient;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Transactional
     public UserInfoResponseDto getUserInfo(Long userId) {
@@ -46,6 +49,7 @@ public class UserService {
         User curUser = findUserById(user.getId());
 
         curUser.updateUser(userInfoRequestDto.getNickname(), userInfoRequestDto.getBirthDay(), userInfoRequestDto.getAddress());
+        evictCachedUser(curUser.getId());
 
         return UserMapper.toUserInfoResponseDto(curUser);
     }
@@ -78,6 +82,10 @@ public class UserService {
     public User saveUser(User user) {
         return userRepository.save(user);
     }
+
+    public void evictCachedUser(Long userId) {
+        userDetailsService.evictUser(userId);
+    }
   
     public Page<AdminUserListResponseDto> getAllUserListPageable(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -89,4 +97,8 @@ public class UserService {
 
         return new PageImpl<>(adminUserListResponseDtoList, pageable, userPage.getTotalElements());
     }
+
+    public CursorPageDto<AdminUserListResponseDto> getUserListByCursor(Long cursor, int size) {
+        return userRepository.findUserListByCursor(cursor, size);
+    }
 }
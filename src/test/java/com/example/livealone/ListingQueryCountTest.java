@@ -0,0 +1,192 @@
+package com.example.livealone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.livealone.admin.dto.AdminBroadcastListResponseDto;
+import com.example.livealone.admin.dto.AdminConsumerResponseDto;
+import com.example.livealone.admin.mapper.AdminMapper;
+import com.example.livealone.broadcast.entity.Broadcast;
+import com.example.livealone.broadcast.entity.BroadcastStatus;
+import com.example.livealone.broadcast.repository.BroadcastRepository;
+import com.example.livealone.global.config.JPAConfig;
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.order.entity.OrderStatus;
+import com.example.livealone.order.repository.OrderRepository;
+import com.example.livealone.payment.entity.Payment;
+import com.example.livealone.payment.entity.PaymentMethod;
+import com.example.livealone.payment.entity.PaymentStatus;
+import com.example.livealone.payment.repository.PaymentRepository;
+import com.example.livealone.product.entity.Product;
+import com.example.livealone.reservation.entity.Reservations;
+import com.example.livealone.user.entity.Social;
+import com.example.livealone.user.entity.User;
+
+/**
+ * 목록 조회가 행 수와 상관없이 정해진 개수의 쿼리만 실행하는지 Hibernate 통계로 확인합니다.
+ * 행마다 연관 엔티티를 따로 조회(N+1)하면 행 수를 늘렸을 때 실행 쿼리 수가 함께 늘어납니다.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(JPAConfig.class)
+class ListingQueryCountTest {
+
+	private static final int PAGE_SIZE = 5;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private BroadcastRepository broadcastRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	private Statistics statistics;
+	private int sequence;
+
+	@BeforeEach
+	void setUp() {
+		statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void paymentHistoryRunsContentAndCountOnly() {
+		User buyer = user();
+		for (int i = 0; i < PAGE_SIZE * 2; i++) {
+			Broadcast broadcast = broadcast();
+			Order order = em.persist(Order.builder()
+				.quantity(1)
+				.orderStatus(OrderStatus.READY)
+				.user(buyer)
+				.product(broadcast.getProduct())
+				.broadcast(broadcast)
+				.build());
+			em.persist(Payment.builder()
+				.user(buyer)
+				.order(order)
+				.amount(1000)
+				.paymentMethod(PaymentMethod.KAKAO_PAY)
+				.status(PaymentStatus.COMPLETED)
+				.tid("T" + i)
+				.orderQuantity(1)
+				.shippingAddress("address")
+				.build());
+		}
+		em.flush();
+		em.clear();
+
+		long statements = countStatements(() -> paymentRepository
+			.findByUserIdAndStatusOrderByCreatedAtDesc(buyer.getId(), PaymentStatus.COMPLETED,
+				PageRequest.of(0, PAGE_SIZE))
+			.getContent()
+			// PaymentService 의 결제 내역 매핑과 같은 연관을 읽습니다.
+			.forEach(payment -> {
+				payment.getOrder().getProduct().getName();
+				payment.getOrder().getQuantity();
+			}));
+
+		assertThat(statements).isEqualTo(2);
+	}
+
+	@Test
+	void adminBroadcastListRunsContentAndCountOnly() {
+		for (int i = 0; i < PAGE_SIZE * 2; i++) {
+			broadcast();
+		}
+		em.flush();
+		em.clear();
+
+		long statements = countStatements(() -> {
+			List<AdminBroadcastListResponseDto> list = broadcastRepository.findAll(PageRequest.of(0, PAGE_SIZE))
+				.map(AdminMapper::toAdminBroadcastListResponseDto)
+				.getContent();
+			assertThat(list).hasSize(PAGE_SIZE);
+		});
+
+		assertThat(statements).isEqualTo(2);
+	}
+
+	@Test
+	void adminConsumerListDoesNotGrowWithRows() {
+		Broadcast broadcast = broadcast();
+		for (int i = 0; i < PAGE_SIZE * 2; i++) {
+			em.persist(Order.builder()
+				.quantity(1)
+				.orderStatus(OrderStatus.READY)
+				.user(user())
+				.product(broadcast.getProduct())
+				.broadcast(broadcast)
+				.build());
+		}
+		em.flush();
+		em.clear();
+
+		long firstPage = countStatements(() -> orderRepository.findAllByBroadcastId(broadcast.getId(), 0, 2));
+		em.clear();
+		long fullPage = countStatements(() -> {
+			List<AdminConsumerResponseDto> list = orderRepository.findAllByBroadcastId(broadcast.getId(), 0, PAGE_SIZE)
+				.getContent();
+			assertThat(list).hasSize(PAGE_SIZE);
+		});
+
+		// 목록, 개수, 그리고 상품의 EAGER 판매자 조회(방송당 상품 하나)까지 최대 3개입니다.
+		assertThat(fullPage).isEqualTo(firstPage).isLessThanOrEqualTo(3);
+	}
+
+	private long countStatements(Runnable listing) {
+		statistics.clear();
+		listing.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private User user() {
+		int n = ++sequence;
+		return em.persist(User.builder()
+			.username("user" + n)
+			.nickname("user" + n)
+			.email("user" + n + "@livealone.shop")
+			.social(Social.KAKAO)
+			.build());
+	}
+
+	private Broadcast broadcast() {
+		User streamer = user();
+		Product product = em.persist(Product.builder()
+			.name("product" + sequence)
+			.price(1000)
+			.quantity(100L)
+			.introduction("introduction")
+			.seller(streamer)
+			.build());
+		Reservations reservation = em.persist(Reservations.builder()
+			.code("code" + sequence)
+			.airTime(LocalDateTime.of(2024, 8, 8, 0, 0).plusHours(sequence))
+			.streamer(streamer)
+			.build());
+		return em.persist(Broadcast.builder()
+			.title("broadcast" + sequence)
+			.broadcastStatus(BroadcastStatus.CLOSE)
+			.streamer(streamer)
+			.product(product)
+			.reservation(reservation)
+			.build());
+	}
+}
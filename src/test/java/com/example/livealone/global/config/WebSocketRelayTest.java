@@ -0,0 +1,146 @@
+package com.example.livealone.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.livealone.global.security.JwtService;
+import com.example.livealone.global.socket.StompAuthenticationInterceptor;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * websocket.broker.mode=relay 일 때 내장 Artemis(STOMP) 를 통해 메시지가 구독자에게 전달되는지 확인합니다.
+ */
+@SpringBootTest(
+        classes = WebSocketRelayTest.RelayTestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "websocket.broker.mode=relay"
+)
+class WebSocketRelayTest {
+
+    private static EmbeddedActiveMQ broker;
+    private static int stompPort;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler relayHandler;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            stompPort = socket.getLocalPort();
+        }
+
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://localhost:" + stompPort + "?protocols=STOMP");
+
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        broker.start();
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("websocket.broker.relay-port", () -> stompPort);
+    }
+
+    @Test
+    void relaysQueueMessageThroughBroker() throws Exception {
+        awaitBrokerAvailable();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                })
+                .get(5, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.subscribe("/queue/message", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+
+        assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        messagingTemplate.convertAndSend("/queue/message", "relay-message");
+
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo("relay-message");
+        session.disconnect();
+    }
+
+    private void awaitBrokerAvailable() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!relayHandler.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(relayHandler.isBrokerAvailable()).isTrue();
+    }
+
+    @org.springframework.context.annotation.Configuration
+    @Import(WebSocketConfig.class)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class
+    })
+    static class RelayTestConfig {
+
+        @Bean
+        public StompAuthenticationInterceptor stompAuthenticationInterceptor() {
+            return new StompAuthenticationInterceptor(mock(JwtService.class));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.livealone.global.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.livealone.global.dto.SlowQueryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SlowQueryListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new SlowQueryListener(meterRegistry);
+        ReflectionTestUtils.setField(listener, "slowThreshold", 200L);
+        ReflectionTestUtils.setField(listener, "sampleRate", 0.0);
+        ReflectionTestUtils.setField(listener, "maxTracked", 3);
+    }
+
+    @Test
+    void normalizeStripsLiteralsAndComments() {
+        String sql = "/* load order */ select * from orders o\n  where o.user_id = 42 and o.status = 'READY' "
+                + "and o.note = 'it''s' and o.price > 10.5";
+
+        assertThat(SlowQueryListener.normalize(sql))
+                .isEqualTo("select * from orders o where o.user_id = ? and o.status = ? and o.note = ? and o.price > ?");
+    }
+
+    @Test
+    void normalizeCollapsesInListsOfAnyLength() {
+        assertThat(SlowQueryListener.normalize("delete from orders where id in (?, ?, ?)"))
+                .isEqualTo(SlowQueryListener.normalize("delete from orders where id in (1,2,3,4,5)"))
+                .isEqualTo("delete from orders where id in (?)");
+    }
+
+    @Test
+    void normalizeKeepsDigitsInsideIdentifiers() {
+        assertThat(SlowQueryListener.normalize("select o1_0.id from orders o1_0 where o1_0.id = 7"))
+                .isEqualTo("select o1_0.id from orders o1_0 where o1_0.id = ?");
+    }
+
+    @Test
+    void queriesAtOrOverThresholdAreSlowWithoutDrawingRandom() {
+        AtomicInteger draws = new AtomicInteger();
+        ReflectionTestUtils.setField(listener, "sampleRate", 1.0);
+
+        assertThat(listener.decide(200, () -> {
+            draws.incrementAndGet();
+            return 0.0;
+        })).isEqualTo(SlowQueryListener.LogDecision.SLOW);
+        assertThat(draws).hasValue(0);
+    }
+
+    @Test
+    void fastQueriesAreNotLoggedWhenSamplingIsOff() {
+        AtomicInteger draws = new AtomicInteger();
+
+        assertThat(listener.decide(199, () -> {
+            draws.incrementAndGet();
+            return 0.0;
+        })).isEqualTo(SlowQueryListener.LogDecision.NONE);
+        assertThat(draws).hasValue(0);
+    }
+
+    @Test
+    void fastQueriesAreSampledAtSampleRate() {
+        ReflectionTestUtils.setField(listener, "sampleRate", 0.25);
+
+        assertThat(listener.decide(10, () -> 0.1)).isEqualTo(SlowQueryListener.LogDecision.SAMPLED);
+        assertThat(listener.decide(10, () -> 0.25)).isEqualTo(SlowQueryListener.LogDecision.NONE);
+        assertThat(listener.decide(10, () -> 0.9)).isEqualTo(SlowQueryListener.LogDecision.NONE);
+    }
+
+    @Test
+    void reportsPercentilesPerNormalizedStatement() {
+        for (int i = 0; i < 98; i++) {
+            execute("select * from orders where id = " + i, 3);
+        }
+        execute("select * from orders where id = 98", 150);
+        execute("select * from orders where id = 99", 700);
+
+        SlowQueryDto dto = listener.getSlowestQueries(1).get(0);
+        assertThat(dto.getSql()).isEqualTo("select * from orders where id = ?");
+        assertThat(dto.getCount()).isEqualTo(100);
+        assertThat(dto.getMaxMillis()).isEqualTo(700);
+        assertThat(dto.getP50Millis()).isEqualTo(5);
+        assertThat(dto.getP95Millis()).isEqualTo(5);
+        assertThat(dto.getP99Millis()).isEqualTo(200);
+        assertThat(meterRegistry.get("db.query").tag("type", "select").timer().count()).isEqualTo(100);
+    }
+
+    @Test
+    void tracksAtMostMaxTrackedStatements() {
+        for (int i = 0; i < 5; i++) {
+            execute("select * from table" + (char) ('a' + i), 1);
+        }
+
+        List<SlowQueryDto> tracked = listener.getSlowestQueries(10);
+        assertThat(tracked).hasSize(3);
+        // 추적하지 않는 문장도 타이머에는 기록됩니다.
+        assertThat(meterRegistry.get("db.query").tag("type", "select").timer().count()).isEqualTo(5);
+    }
+
+    private void execute(String sql, long elapsed) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsed);
+        executionInfo.setSuccess(true);
+        listener.afterQuery(executionInfo, List.of(new QueryInfo(sql)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.livealone.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import reactor.test.StepVerifier;
+
+/**
+ * 스텁 PG(MockWebServer) 를 상대로 성공, 제한 시간 초과, 서킷 오픈을 확인합니다.
+ */
+class WebClientPaymentGatewayClientTest {
+
+	private static final long DEADLINE = 300;
+
+	private MockWebServer server;
+	private WebClientPaymentGatewayClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new MockWebServer();
+		server.start();
+
+		String baseUrl = server.url("/").toString();
+		client = new WebClientPaymentGatewayClient();
+		ReflectionTestUtils.setField(client, "kakaoSecretKey", "test-secret");
+		ReflectionTestUtils.setField(client, "kakaoBaseUrl", baseUrl);
+		ReflectionTestUtils.setField(client, "tossBaseUrl", baseUrl);
+		ReflectionTestUtils.setField(client, "connectTimeout", 1000);
+		ReflectionTestUtils.setField(client, "deadline", DEADLINE);
+		ReflectionTestUtils.setField(client, "maxConcurrentCalls", 10);
+		ReflectionTestUtils.setField(client, "failureRateThreshold", 50f);
+		ReflectionTestUtils.setField(client, "slidingWindowSize", 2);
+		ReflectionTestUtils.setField(client, "waitDurationInOpenState", 60000L);
+		client.init();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		server.shutdown();
+	}
+
+	@Test
+	void approveSuccess() throws InterruptedException {
+		server.enqueue(json("{\"tid\":\"T1\",\"approved_at\":\"2024-08-08T10:00:00\"}"));
+
+		StepVerifier.create(client.kakaoApprove(Map.of("tid", "T1", "pg_token", "pg")))
+			.assertNext(jsonNode -> assertThat(jsonNode.get("tid").asText()).isEqualTo("T1"))
+			.verifyComplete();
+
+		RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+		assertThat(request.getPath()).isEqualTo("/online/v1/payment/approve");
+		assertThat(request.getHeader(HttpHeaders.AUTHORIZATION)).isEqualTo("SECRET_KEY test-secret");
+	}
+
+	@Test
+	void approveTimesOutAtDeadline() {
+		server.enqueue(json("{\"tid\":\"T1\"}").setHeadersDelay(DEADLINE * 5, TimeUnit.MILLISECONDS));
+
+		StepVerifier.create(client.kakaoApprove(Map.of("tid", "T1")))
+			.expectError(TimeoutException.class)
+			.verify(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void circuitOpensAfterFailuresAndRejectsWithoutCallingGateway() {
+		server.enqueue(new MockResponse().setResponseCode(500));
+		server.enqueue(new MockResponse().setResponseCode(500));
+
+		StepVerifier.create(client.kakaoReady(Map.of("cid", "C")))
+			.expectError(WebClientResponseException.class)
+			.verify(Duration.ofSeconds(2));
+		StepVerifier.create(client.kakaoReady(Map.of("cid", "C")))
+			.expectError(WebClientResponseException.class)
+			.verify(Duration.ofSeconds(2));
+
+		StepVerifier.create(client.kakaoReady(Map.of("cid", "C")))
+			.expectError(CallNotPermittedException.class)
+			.verify(Duration.ofSeconds(2));
+		assertThat(server.getRequestCount()).isEqualTo(2);
+
+		// PG별로 서킷이 나뉘어 있으므로 토스는 그대로 호출됩니다.
+		server.enqueue(json("{\"payToken\":\"P1\",\"checkoutPage\":\"https://toss\"}"));
+		StepVerifier.create(client.tossReady(Map.of("orderNo", "livealone:1")))
+			.assertNext(jsonNode -> assertThat(jsonNode.get("payToken").asText()).isEqualTo("P1"))
+			.verifyComplete();
+	}
+
+	private MockResponse json(String body) {
+		return new MockResponse()
+			.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.setBody(body);
+	}
+}
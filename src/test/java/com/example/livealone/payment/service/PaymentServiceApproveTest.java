@@ -0,0 +1,206 @@
+package com.example.livealone.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.livealone.global.config.URIConfig;
+import com.example.livealone.order.entity.Order;
+import com.example.livealone.order.repository.OrderRepository;
+import com.example.livealone.order.service.OrderHoldService;
+import com.example.livealone.outbox.service.OutboxService;
+import com.example.livealone.payment.client.PaymentGatewayClient;
+import com.example.livealone.payment.dto.PaymentResponseDto;
+import com.example.livealone.payment.entity.Payment;
+import com.example.livealone.payment.entity.PaymentMethod;
+import com.example.livealone.payment.entity.PaymentStatus;
+import com.example.livealone.payment.repository.PaymentRepository;
+import com.example.livealone.product.entity.Product;
+import com.example.livealone.product.service.StockService;
+import com.example.livealone.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오페이 승인 응답을 받지 못했을 때 주문을 지우기 전에 PG 상태를 확인하는지 검증합니다.
+ * 롤백은 실제 PaymentRollbackService 에 같은 mock 들을 넣어서 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceApproveTest {
+
+	private static final Long ORDER_ID = 1L;
+	private static final Long USER_ID = 2L;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private PaymentRepository paymentRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private OrderRepository orderRepository;
+	@Mock
+	private PaymentGatewayClient paymentGatewayClient;
+	@Mock
+	private StockService stockService;
+	@Mock
+	private OrderHoldService orderHoldService;
+	@Mock
+	private OutboxService outboxService;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private URIConfig uriConfig;
+
+	@InjectMocks
+	private PaymentService paymentService;
+
+	private Payment payment;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(paymentService, "paymentRollbackService", new PaymentRollbackService(
+			orderRepository, paymentRepository, stockService, orderHoldService, outboxService, transactionTemplate));
+
+		payment = Payment.builder()
+			.amount(1000)
+			.orderQuantity(2)
+			.paymentMethod(PaymentMethod.KAKAO_PAY)
+			.status(PaymentStatus.REQUESTED)
+			.tid("T1")
+			.build();
+		given(paymentRepository.findByOrder_Id(ORDER_ID)).willReturn(payment);
+	}
+
+	@Test
+	void approveTimeoutButApprovedAtGatewayCompletesOrder() throws Exception {
+		runTransactionCallbacks();
+		given(paymentGatewayClient.kakaoApprove(any())).willReturn(Mono.error(new TimeoutException()));
+		given(paymentGatewayClient.kakaoInquiry(any()))
+			.willReturn(Mono.just(objectMapper.readTree("{\"status\":\"SUCCESS_PAYMENT\"}")));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("COMPLETED");
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+		verify(orderHoldService).release(ORDER_ID);
+		verify(orderRepository, never()).delete(any());
+	}
+
+	@Test
+	void approveTimeoutAndNotApprovedAtGatewayRollsBackOrder() throws Exception {
+		Order order = stubOrder();
+		runTransactionCallbacks();
+		given(orderHoldService.release(ORDER_ID)).willReturn(true);
+		given(paymentGatewayClient.kakaoApprove(any())).willReturn(Mono.error(new TimeoutException()));
+		given(paymentGatewayClient.kakaoInquiry(any()))
+			.willReturn(Mono.just(objectMapper.readTree("{\"status\":\"QUIT_PAYMENT\"}")));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("FAILED");
+		verify(orderRepository).delete(order);
+		verify(paymentGatewayClient, never()).kakaoCancel(any());
+	}
+
+	@Test
+	void approveTimeoutAndGatewayUnreachableKeepsOrder() {
+		given(paymentGatewayClient.kakaoApprove(any())).willReturn(Mono.error(new TimeoutException()));
+		given(paymentGatewayClient.kakaoInquiry(any())).willReturn(Mono.error(new TimeoutException()));
+		given(paymentGatewayClient.kakaoCancel(any())).willReturn(Mono.error(new TimeoutException()));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("PROCESSING");
+		verify(orderHoldService, never()).release(any());
+		verify(orderRepository, never()).delete(any());
+	}
+
+	@Test
+	void approveRejectedByGatewayRollsBackWithoutInquiry() {
+		Order order = stubOrder();
+		runTransactionCallbacks();
+		given(orderHoldService.release(ORDER_ID)).willReturn(true);
+		given(paymentGatewayClient.kakaoApprove(any()))
+			.willReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", new HttpHeaders(), new byte[0], null)));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("FAILED");
+		verify(paymentGatewayClient, never()).kakaoInquiry(any());
+		verify(orderRepository).delete(order);
+	}
+
+	@Test
+	void approveRejectedAfterOrderAlreadyDeletedStillFails() {
+		given(orderRepository.findByIdWithProduct(ORDER_ID)).willReturn(Optional.empty());
+		given(paymentGatewayClient.kakaoApprove(any()))
+			.willReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", new HttpHeaders(), new byte[0], null)));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("FAILED");
+		verify(orderHoldService, never()).release(any());
+		verify(stockService, never()).release(any(), anyInt());
+	}
+
+	@Test
+	void rollbackFailureStillReturnsFailed() {
+		given(orderRepository.findByIdWithProduct(ORDER_ID)).willReturn(Optional.of(mock(Order.class)));
+		given(orderHoldService.release(ORDER_ID)).willReturn(true);
+		doThrow(new IllegalStateException("db down")).when(transactionTemplate).executeWithoutResult(any());
+		given(paymentGatewayClient.kakaoApprove(any()))
+			.willReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", new HttpHeaders(), new byte[0], null)));
+
+		PaymentResponseDto response = approve();
+
+		assertThat(response.getStatus()).isEqualTo("FAILED");
+		// 지우지 못한 주문은 다시 점유로 등록해 만료 스케쥴러에 맡깁니다.
+		verify(orderHoldService).hold(ORDER_ID);
+	}
+
+	private PaymentResponseDto approve() {
+		return paymentService.approveKakaoPayPayment("pg", ORDER_ID, USER_ID).block(Duration.ofSeconds(5));
+	}
+
+	private Order stubOrder() {
+		Product product = mock(Product.class);
+		given(product.getId()).willReturn(10L);
+		Order order = mock(Order.class);
+		given(order.getProduct()).willReturn(product);
+		given(order.getQuantity()).willReturn(2);
+		given(orderRepository.findByIdWithProduct(ORDER_ID)).willReturn(Optional.of(order));
+		return order;
+	}
+
+	private void runTransactionCallbacks() {
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+}